@@ -0,0 +1,90 @@
+package mouse.univ;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccessBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    public int size;
+
+    @Param({"SQUARE", "SKINNY"})
+    public MatrixShape shape;
+
+    private Matrix a;
+    private Matrix copy;
+
+    @Setup
+    public void setUp() {
+        int rows = shape.rows(size);
+        int columns = shape.columns(size);
+        a = shape.random(rows, columns);
+        copy = a.add(Matrix.rect(rows, columns, MatrixLimits.LARGE).zero());
+    }
+
+    @Benchmark
+    public void rows(Blackhole blackhole) {
+        for (int i = 0; i < a.getNumRows(); i++) {
+            blackhole.consume(a.row(i));
+        }
+    }
+
+    @Benchmark
+    public void columns(Blackhole blackhole) {
+        for (int j = 0; j < a.getNumColumns(); j++) {
+            blackhole.consume(a.column(j));
+        }
+    }
+
+    @Benchmark
+    public double rowViews() {
+        double sum = 0.0;
+        for (int i = 0; i < a.getNumRows(); i++) {
+            DoubleVectorView row = a.rowView(i);
+            for (int j = 0; j < row.size(); j++) {
+                sum += row.getDouble(j);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double columnViews() {
+        double sum = 0.0;
+        for (int j = 0; j < a.getNumColumns(); j++) {
+            DoubleVectorView column = a.columnView(j);
+            for (int i = 0; i < column.size(); i++) {
+                sum += column.getDouble(i);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<List<Double>> asList() {
+        return a.asList();
+    }
+
+    @Benchmark
+    public boolean deepEquals() {
+        return a.deepEquals(copy);
+    }
+
+    @Benchmark
+    public String toStringBenchmark() {
+        return a.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package mouse.univ;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArithmeticBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    public int size;
+
+    @Param({"SQUARE", "SKINNY"})
+    public MatrixShape shape;
+
+    private Matrix a;
+    private Matrix b;
+    private Matrix bTransposedShape;
+
+    @Setup
+    public void setUp() {
+        int rows = shape.rows(size);
+        int columns = shape.columns(size);
+        a = shape.random(rows, columns);
+        b = shape.random(rows, columns);
+        bTransposedShape = shape.random(columns, rows);
+    }
+
+    @Benchmark
+    public Matrix dot() {
+        return a.dot(bTransposedShape);
+    }
+
+    @Benchmark
+    public Matrix add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Matrix subtract() {
+        return a.subtract(b);
+    }
+}
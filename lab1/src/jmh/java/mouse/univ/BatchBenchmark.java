@@ -0,0 +1,62 @@
+package mouse.univ;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BatchBenchmark {
+
+    private static final int COUNT = 4096;
+
+    @Param({"4", "8", "16", "32"})
+    public int size;
+
+    private Matrix[] a;
+    private Matrix[] b;
+    private MatrixBatch batchA;
+    private MatrixBatch batchB;
+
+    @Setup
+    public void setUp() {
+        a = new Matrix[COUNT];
+        b = new Matrix[COUNT];
+        for (int k = 0; k < COUNT; k++) {
+            a[k] = MatrixShape.SQUARE.random(size, size);
+            b[k] = MatrixShape.SQUARE.random(size, size);
+        }
+        batchA = MatrixBatch.of(a);
+        batchB = MatrixBatch.of(b);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void dotLoop(Blackhole bh) {
+        for (int k = 0; k < COUNT; k++) {
+            bh.consume(a[k].dot(b[k]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public MatrixBatch dotBatch() {
+        return batchA.dot(batchB);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public MatrixBatch dotBatchParallel() {
+        return batchA.dot(batchB, ExecutionPolicy.parallel());
+    }
+}
@@ -0,0 +1,53 @@
+package mouse.univ;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConstructionBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    public int size;
+
+    @Param({"SQUARE", "SKINNY"})
+    public MatrixShape shape;
+
+    private int rows;
+    private int columns;
+    private List<Double> boxed;
+    private double[] primitive;
+
+    @Setup
+    public void setUp() {
+        rows = shape.rows(size);
+        columns = shape.columns(size);
+        boxed = NumberUtils.generateRandomNumbers(rows * columns);
+        primitive = boxed.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    @Benchmark
+    public Matrix withNumbersList() {
+        return Matrix.rect(rows, columns, MatrixLimits.LARGE).withNumbers(boxed);
+    }
+
+    @Benchmark
+    public Matrix withNumbersArray() {
+        return Matrix.rect(rows, columns, MatrixLimits.LARGE).withNumbers(primitive);
+    }
+
+    @Benchmark
+    public Matrix zero() {
+        return Matrix.rect(rows, columns, MatrixLimits.LARGE).zero();
+    }
+}
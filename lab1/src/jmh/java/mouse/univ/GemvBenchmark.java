@@ -0,0 +1,53 @@
+package mouse.univ;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GemvBenchmark {
+
+    @Param({"256", "1024", "4096"})
+    public int size;
+
+    private Matrix a;
+    private double[] x;
+    private double[] y;
+
+    @Setup
+    public void setUp() {
+        a = MatrixShape.SQUARE.random(size, size);
+        x = MatrixShape.SQUARE.random(size, 1).columnView(0).toList().stream()
+                .mapToDouble(Double::doubleValue).toArray();
+        y = new double[size];
+    }
+
+    @Benchmark
+    public Matrix columnMatrixDot() {
+        return a.dot(Matrix.rect(size, 1, MatrixLimits.LARGE).withNumbers(x));
+    }
+
+    @Benchmark
+    public double[] multiplyInto() {
+        return a.multiplyInto(x, y);
+    }
+
+    @Benchmark
+    public double[] multiplyIntoParallel() {
+        return a.multiplyInto(x, y, ExecutionPolicy.parallel());
+    }
+
+    @Benchmark
+    public double[] leftMultiply() {
+        return a.leftMultiply(x);
+    }
+}
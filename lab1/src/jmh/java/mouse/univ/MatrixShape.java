@@ -0,0 +1,24 @@
+package mouse.univ;
+
+public enum MatrixShape {
+    SQUARE,
+    SKINNY;
+
+    public int rows(int size) {
+        return size;
+    }
+
+    public int columns(int size) {
+        if (this == SQUARE) {
+            return size;
+        }
+        return Math.max(1, size / 10);
+    }
+
+    public Matrix random(int rows, int columns) {
+        double[] numbers = NumberUtils.generateRandomNumbers(rows * columns).stream()
+                .mapToDouble(Double::doubleValue)
+                .toArray();
+        return Matrix.rect(rows, columns, MatrixLimits.LARGE).withNumbers(numbers);
+    }
+}
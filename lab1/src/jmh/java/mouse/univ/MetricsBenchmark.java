@@ -0,0 +1,54 @@
+package mouse.univ;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsBenchmark {
+
+    @Param({"4", "32"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private Matrix a;
+    private Matrix b;
+
+    @Setup
+    public void setUp() {
+        a = MatrixShape.SQUARE.random(size, size);
+        b = MatrixShape.SQUARE.random(size, size);
+        if (metrics) {
+            MatrixMetrics.enable();
+        } else {
+            MatrixMetrics.disable();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        MatrixMetrics.disable();
+    }
+
+    @Benchmark
+    public Matrix dot() {
+        return a.dot(b);
+    }
+
+    @Benchmark
+    public Matrix add() {
+        return a.add(b);
+    }
+}
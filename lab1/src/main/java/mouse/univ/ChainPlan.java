@@ -0,0 +1,186 @@
+package mouse.univ;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Cheapest parenthesization of a matrix chain, found with the classic O(k^3) dynamic program
+ * over the chain dimensions. Created by {@link Matrix#planChain(Matrix...)}.
+ * FLOP estimates count one multiplication and one addition per scalar multiply-add, and saturate at
+ * {@link Long#MAX_VALUE} for chains too large to count.
+ */
+public final class ChainPlan {
+
+    private final Matrix[] factors;
+    private final int[] dims;
+    private final long[][] cost;
+    private final int[][] split;
+
+    private ChainPlan(Matrix[] factors) {
+        this.factors = factors;
+        int k = factors.length;
+        this.dims = new int[k + 1];
+        dims[0] = factors[0].getNumRows();
+        for (int i = 0; i < k; i++) {
+            if (factors[i].getNumRows() != dims[i]) {
+                String err = String.format("Matrix chain dimension mismatch between factor %d (%dx%d) and factor %d (%dx%d)",
+                        i - 1, factors[i - 1].getNumRows(), dims[i],
+                        i, factors[i].getNumRows(), factors[i].getNumColumns());
+                throw new IllegalArgumentException(err);
+            }
+            dims[i + 1] = factors[i].getNumColumns();
+        }
+        this.cost = new long[k][k];
+        this.split = new int[k][k];
+        for (int length = 2; length <= k; length++) {
+            for (int i = 0; i + length <= k; i++) {
+                int j = i + length - 1;
+                cost[i][j] = Long.MAX_VALUE;
+                split[i][j] = i;
+                for (int s = i; s < j; s++) {
+                    long c = saturatedAdd(saturatedAdd(cost[i][s], cost[s + 1][j]),
+                            saturatedProduct(dims[i], dims[s + 1], dims[j + 1]));
+                    if (c < cost[i][j]) {
+                        cost[i][j] = c;
+                        split[i][j] = s;
+                    }
+                }
+            }
+        }
+    }
+
+    static ChainPlan optimal(Matrix... factors) {
+        if (factors == null || factors.length == 0) {
+            throw new IllegalArgumentException("Matrix chain cannot be empty");
+        }
+        for (int i = 0; i < factors.length; i++) {
+            if (factors[i] == null) {
+                throw new IllegalArgumentException("Matrix chain factor " + i + " is null");
+            }
+        }
+        return new ChainPlan(factors.clone());
+    }
+
+    public int getNumFactors() {
+        return factors.length;
+    }
+
+    public long getMultiplyAdds() {
+        return cost[0][factors.length - 1];
+    }
+
+    public long getFlops() {
+        return saturatedAdd(getMultiplyAdds(), getMultiplyAdds());
+    }
+
+    public long getLeftToRightFlops() {
+        long total = 0;
+        for (int i = 1; i < factors.length; i++) {
+            total = saturatedAdd(total, saturatedProduct(dims[0], dims[i], dims[i + 1]));
+        }
+        return saturatedAdd(total, total);
+    }
+
+    static long saturatedAdd(long x, long y) {
+        try {
+            return Math.addExact(x, y);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    static long saturatedProduct(int p, int q, int r) {
+        try {
+            return Math.multiplyExact(Math.multiplyExact((long) p, q), r);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Returns the chosen order with factors named by their position, e.g. {@code ((M0 x M1) x M2)}.
+     */
+    public String parenthesization() {
+        StringBuilder sb = new StringBuilder();
+        appendOrder(sb, 0, factors.length - 1);
+        return sb.toString();
+    }
+
+    private void appendOrder(StringBuilder sb, int i, int j) {
+        if (i == j) {
+            sb.append('M').append(i);
+            return;
+        }
+        sb.append('(');
+        appendOrder(sb, i, split[i][j]);
+        sb.append(" x ");
+        appendOrder(sb, split[i][j] + 1, j);
+        sb.append(')');
+    }
+
+    public Matrix execute() {
+        return execute(ExecutionPolicy.sequential());
+    }
+
+    /**
+     * Multiplies the chain in the planned order. With a parallel policy, independent sub-products
+     * whose estimated work reaches the policy threshold are computed concurrently, and every
+     * individual product is itself tiled across the pool.
+     */
+    public Matrix execute(ExecutionPolicy policy) {
+        if (factors.length == 1) {
+            return factors[0].copy();
+        }
+        if (!policy.isParallel()) {
+            return multiply(0, factors.length - 1, policy);
+        }
+        return policy.getPool().invoke(new SubProduct(0, factors.length - 1, policy));
+    }
+
+    private Matrix multiply(int i, int j, ExecutionPolicy policy) {
+        if (i == j) {
+            return factors[i];
+        }
+        return multiply(i, split[i][j], policy).dot(multiply(split[i][j] + 1, j, policy), policy);
+    }
+
+    private final class SubProduct extends RecursiveTask<Matrix> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final ExecutionPolicy policy;
+
+        private SubProduct(int from, int to, ExecutionPolicy policy) {
+            this.from = from;
+            this.to = to;
+            this.policy = policy;
+        }
+
+        @Override
+        protected Matrix compute() {
+            if (from == to) {
+                return factors[from];
+            }
+            int s = split[from][to];
+            SubProduct left = new SubProduct(from, s, policy);
+            SubProduct right = new SubProduct(s + 1, to, policy);
+            Matrix a;
+            Matrix b;
+            if (cost[from][s] >= policy.getThreshold() && cost[s + 1][to] >= policy.getThreshold()) {
+                left.fork();
+                b = right.compute();
+                a = left.join();
+            } else {
+                a = left.compute();
+                b = right.compute();
+            }
+            return a.dot(b, policy);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ChainPlan[%s, flops=%d, leftToRightFlops=%d]",
+                parenthesization(), getFlops(), getLeftToRightFlops());
+    }
+}
@@ -0,0 +1,297 @@
+package mouse.univ;
+
+import java.util.Arrays;
+
+final class DotKernels {
+
+    static final int SMALL_VOLUME = 32 * 32 * 32;
+    static final int BLOCK_K = 128;
+    static final int BLOCK_J = 256;
+    static final int BLOCK_ROWS = 64;
+    private static final int TILE_I = 4;
+
+    private DotKernels() {
+    }
+
+    /**
+     * {@code C += A * B} over rows {@code [i0, i1)} and columns {@code [j0, j1)} of C; every path
+     * accumulates, so callers clear C first when they want the plain product.
+     */
+    static void multiplyTile(double[] a, int ao, int as,
+                             double[] b, int bo, int bs,
+                             double[] c, int co, int cs,
+                             int i0, int i1, int j0, int j1, int p) {
+        if ((long) (i1 - i0) * p * (j1 - j0) <= SMALL_VOLUME) {
+            multiplyIkj(a, ao, as, b, bo, bs, c, co, cs, i0, i1, j0, j1, p);
+        } else if (j1 - j0 == 1) {
+            multiplyByColumn(a, ao, as, b, bo, bs, c, co, cs, i0, i1, j0, p);
+        } else {
+            multiplyBlocked(a, ao, as, b, bo, bs, c, co, cs, i0, i1, j0, j1, p);
+        }
+    }
+
+    static void multiplyIkj(double[] a, int ao, int as,
+                            double[] b, int bo, int bs,
+                            double[] c, int co, int cs,
+                            int i0, int i1, int j0, int j1, int p) {
+        for (int i = i0; i < i1; i++) {
+            int aRow = ao + i * as;
+            int cRow = co + i * cs + j0;
+            for (int k = 0; k < p; k++) {
+                axpy(a[aRow + k], b, bo + k * bs + j0, c, cRow, j1 - j0);
+            }
+        }
+    }
+
+    static void multiplyByColumn(double[] a, int ao, int as,
+                                 double[] b, int bo, int bs,
+                                 double[] c, int co, int cs,
+                                 int i0, int i1, int j, int p) {
+        double[] column = new double[p];
+        for (int k = 0; k < p; k++) {
+            column[k] = b[bo + k * bs + j];
+        }
+        for (int i = i0; i < i1; i++) {
+            c[co + i * cs + j] += dotProduct(a, ao + i * as, column, 0, p);
+        }
+    }
+
+    static void multiplyBlocked(double[] a, int ao, int as,
+                                double[] b, int bo, int bs,
+                                double[] c, int co, int cs,
+                                int i0, int i1, int j0, int j1, int p) {
+        for (int jj = j0; jj < j1; jj += BLOCK_J) {
+            int jEnd = Math.min(jj + BLOCK_J, j1);
+            for (int kk = 0; kk < p; kk += BLOCK_K) {
+                multiplyPanel(a, ao, as, b, bo, bs, c, co, cs, i0, i1, kk, Math.min(kk + BLOCK_K, p), jj, jEnd);
+            }
+        }
+    }
+
+    private static void multiplyPanel(double[] a, int ao, int as,
+                                      double[] b, int bo, int bs,
+                                      double[] c, int co, int cs,
+                                      int i0, int i1, int kk, int kEnd, int jj, int jEnd) {
+        int i = i0;
+        for (; i + TILE_I <= i1; i += TILE_I) {
+            tile4(a, ao + i * as, as, b, bo, bs, c, co + i * cs, cs, kk, kEnd, jj, jEnd);
+        }
+        for (; i < i1; i++) {
+            int aRow = ao + i * as;
+            int cRow = co + i * cs + jj;
+            for (int k = kk; k < kEnd; k++) {
+                axpy(a[aRow + k], b, bo + k * bs + jj, c, cRow, jEnd - jj);
+            }
+        }
+    }
+
+    private static void tile4(double[] a, int a0, int as,
+                              double[] b, int bo, int bs,
+                              double[] c, int c0, int cs,
+                              int kk, int kEnd, int jj, int jEnd) {
+        int a1 = a0 + as;
+        int a2 = a1 + as;
+        int a3 = a2 + as;
+        int c1 = c0 + cs;
+        int c2 = c1 + cs;
+        int c3 = c2 + cs;
+        for (int k = kk; k < kEnd; k++) {
+            int bRow = bo + k * bs + jj;
+            if (VectorSupport.ENABLED) {
+                VectorKernels.axpy4(a[a0 + k], a[a1 + k], a[a2 + k], a[a3 + k],
+                        b, bRow, c, c0 + jj, c1 + jj, c2 + jj, c3 + jj, jEnd - jj);
+            } else {
+                axpy4Scalar(a[a0 + k], a[a1 + k], a[a2 + k], a[a3 + k],
+                        b, bRow, c, c0 + jj, c1 + jj, c2 + jj, c3 + jj, jEnd - jj);
+            }
+        }
+    }
+
+    /**
+     * {@code C += A * B^T} where B is stored row-major as q x p: every cell is a dot product of two
+     * contiguous rows. Cells are produced in 2 x 4 register tiles, and B rows are visited in
+     * blocks of {@link #BLOCK_ROWS} x {@link #BLOCK_K} so they stay cached across rows of A.
+     */
+    static void multiplyTransposedB(double[] a, int ao, int as,
+                                    double[] b, int bo, int bs,
+                                    double[] c, int co, int cs,
+                                    int i0, int i1, int j0, int j1, int p) {
+        for (int jj = j0; jj < j1; jj += BLOCK_ROWS) {
+            int jEnd = Math.min(jj + BLOCK_ROWS, j1);
+            for (int kk = 0; kk < p; kk += BLOCK_K) {
+                int len = Math.min(BLOCK_K, p - kk);
+                int i = i0;
+                for (; i + 2 <= i1; i += 2) {
+                    dotRows(a, ao + i * as + kk, ao + (i + 1) * as + kk,
+                            b, bo + kk, bs, c, co + i * cs, co + (i + 1) * cs, jj, jEnd, len);
+                }
+                if (i < i1) {
+                    int aRow = ao + i * as + kk;
+                    int cRow = co + i * cs;
+                    for (int j = jj; j < jEnd; j++) {
+                        c[cRow + j] += dotProduct(a, aRow, b, bo + j * bs + kk, len);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void dotRows(double[] a, int a0, int a1,
+                                double[] b, int bo, int bs,
+                                double[] c, int c0, int c1,
+                                int jj, int jEnd, int len) {
+        int j = jj;
+        for (; j + 4 <= jEnd; j += 4) {
+            int b0 = bo + j * bs;
+            if (VectorSupport.ENABLED) {
+                VectorKernels.dot2x4(a, a0, a1, b, b0, b0 + bs, b0 + 2 * bs, b0 + 3 * bs, c, c0 + j, c1 + j, len);
+            } else {
+                for (int t = 0; t < 4; t++) {
+                    c[c0 + j + t] += dotProductScalar(a, a0, b, b0 + t * bs, len);
+                    c[c1 + j + t] += dotProductScalar(a, a1, b, b0 + t * bs, len);
+                }
+            }
+        }
+        for (; j < jEnd; j++) {
+            int bRow = bo + j * bs;
+            c[c0 + j] += dotProduct(a, a0, b, bRow, len);
+            c[c1 + j] += dotProduct(a, a1, b, bRow, len);
+        }
+    }
+
+    /**
+     * {@code C += A^T * B} where A is stored row-major as p x n: a sequence of rank-1 updates
+     * with contiguous rows of B. Each {@link #BLOCK_K} slice of A's columns is first packed into
+     * a small row-major panel, so the blocked kernel runs unchanged and never walks A with a
+     * (possibly power-of-two) row stride.
+     */
+    static void multiplyTransposedA(double[] a, int ao, int as,
+                                    double[] b, int bo, int bs,
+                                    double[] c, int co, int cs,
+                                    int i0, int i1, int j0, int j1, int p) {
+        int rows = i1 - i0;
+        double[] panel = new double[rows * Math.min(BLOCK_K, p)];
+        for (int kk = 0; kk < p; kk += BLOCK_K) {
+            int kEnd = Math.min(kk + BLOCK_K, p);
+            int len = kEnd - kk;
+            for (int k = kk; k < kEnd; k++) {
+                int aRow = ao + k * as + i0;
+                int target = k - kk;
+                for (int i = 0; i < rows; i++) {
+                    panel[target + i * len] = a[aRow + i];
+                }
+            }
+            for (int jj = j0; jj < j1; jj += BLOCK_J) {
+                multiplyPanel(panel, -kk, len, b, bo, bs, c, co + i0 * cs, cs,
+                        0, rows, kk, kEnd, jj, Math.min(jj + BLOCK_J, j1));
+            }
+        }
+    }
+
+    /**
+     * {@code y[i0:i1] = A[i0:i1] * x}: four rows of A share each load of x.
+     */
+    static void multiplyVector(double[] a, int ao, int as,
+                               double[] x, double[] y,
+                               int i0, int i1, int m) {
+        int i = i0;
+        for (; i + TILE_I <= i1; i += TILE_I) {
+            int r0 = ao + i * as;
+            if (VectorSupport.ENABLED) {
+                VectorKernels.dot4(x, 0, a, r0, r0 + as, r0 + 2 * as, r0 + 3 * as, y, i, m);
+            } else {
+                dot4Scalar(x, a, r0, r0 + as, r0 + 2 * as, r0 + 3 * as, y, i, m);
+            }
+        }
+        for (; i < i1; i++) {
+            y[i] = dotProduct(x, 0, a, ao + i * as, m);
+        }
+    }
+
+    /**
+     * {@code y[j0:j1] = x^T * A[:, j0:j1]}: rows of A are combined four at a time,
+     * so every pass over the slice of y folds in four rows.
+     */
+    static void leftMultiplyVector(double[] a, int ao, int as,
+                                   double[] x, double[] y,
+                                   int j0, int j1, int n) {
+        int len = j1 - j0;
+        Arrays.fill(y, j0, j1, 0.0);
+        int i = 0;
+        for (; i + TILE_I <= n; i += TILE_I) {
+            int r0 = ao + i * as + j0;
+            if (VectorSupport.ENABLED) {
+                VectorKernels.axpyRows4(x[i], x[i + 1], x[i + 2], x[i + 3],
+                        a, r0, r0 + as, r0 + 2 * as, r0 + 3 * as, y, j0, len);
+            } else {
+                for (int j = 0; j < len; j++) {
+                    y[j0 + j] += x[i] * a[r0 + j] + x[i + 1] * a[r0 + as + j]
+                            + x[i + 2] * a[r0 + 2 * as + j] + x[i + 3] * a[r0 + 3 * as + j];
+                }
+            }
+        }
+        for (; i < n; i++) {
+            axpy(x[i], a, ao + i * as + j0, y, j0, len);
+        }
+    }
+
+    static void axpy(double alpha, double[] x, int xo, double[] y, int yo, int len) {
+        if (VectorSupport.ENABLED) {
+            VectorKernels.axpy(alpha, x, xo, y, yo, len);
+        } else {
+            axpyScalar(alpha, x, xo, y, yo, len);
+        }
+    }
+
+    static double dotProduct(double[] x, int xo, double[] y, int yo, int len) {
+        if (VectorSupport.ENABLED) {
+            return VectorKernels.dotProduct(x, xo, y, yo, len);
+        }
+        return dotProductScalar(x, xo, y, yo, len);
+    }
+
+    static void axpyScalar(double alpha, double[] x, int xo, double[] y, int yo, int len) {
+        for (int j = 0; j < len; j++) {
+            y[yo + j] += alpha * x[xo + j];
+        }
+    }
+
+    static void axpy4Scalar(double a0, double a1, double a2, double a3,
+                            double[] x, int xo,
+                            double[] y, int y0, int y1, int y2, int y3, int len) {
+        for (int j = 0; j < len; j++) {
+            double xj = x[xo + j];
+            y[y0 + j] += a0 * xj;
+            y[y1 + j] += a1 * xj;
+            y[y2 + j] += a2 * xj;
+            y[y3 + j] += a3 * xj;
+        }
+    }
+
+    static void dot4Scalar(double[] x, double[] a, int r0, int r1, int r2, int r3,
+                           double[] y, int yo, int len) {
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+        for (int j = 0; j < len; j++) {
+            double xj = x[j];
+            s0 += xj * a[r0 + j];
+            s1 += xj * a[r1 + j];
+            s2 += xj * a[r2 + j];
+            s3 += xj * a[r3 + j];
+        }
+        y[yo] = s0;
+        y[yo + 1] = s1;
+        y[yo + 2] = s2;
+        y[yo + 3] = s3;
+    }
+
+    static double dotProductScalar(double[] x, int xo, double[] y, int yo, int len) {
+        double sum = 0.0;
+        for (int j = 0; j < len; j++) {
+            sum += x[xo + j] * y[yo + j];
+        }
+        return sum;
+    }
+}
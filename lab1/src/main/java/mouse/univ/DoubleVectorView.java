@@ -0,0 +1,71 @@
+package mouse.univ;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+public final class DoubleVectorView {
+    private final double[] data;
+    private final int offset;
+    private final int stride;
+    private final int length;
+
+    DoubleVectorView(double[] data, int offset, int stride, int length) {
+        this.data = data;
+        this.offset = offset;
+        this.stride = stride;
+        this.length = length;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public double getDouble(int k) {
+        Objects.checkIndex(k, length);
+        return data[offset + k * stride];
+    }
+
+    public DoubleStream stream() {
+        if (stride == 1) {
+            return Arrays.stream(data, offset, offset + length);
+        }
+        return IntStream.range(0, length).mapToDouble(k -> data[offset + k * stride]);
+    }
+
+    public double[] copyInto(double[] target) {
+        return copyInto(target, 0);
+    }
+
+    public double[] copyInto(double[] target, int targetOffset) {
+        Objects.checkFromIndexSize(targetOffset, length, target.length);
+        if (stride == 1) {
+            System.arraycopy(data, offset, target, targetOffset, length);
+        } else {
+            for (int k = 0; k < length; k++) {
+                target[targetOffset + k] = data[offset + k * stride];
+            }
+        }
+        return target;
+    }
+
+    public double[] toArray() {
+        return copyInto(new double[length]);
+    }
+
+    public List<Double> toList() {
+        List<Double> result = new ArrayList<>(length);
+        for (int k = 0; k < length; k++) {
+            result.add(data[offset + k * stride]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,76 @@
+package mouse.univ;
+
+final class ElementwiseKernels {
+
+    private ElementwiseKernels() {
+    }
+
+    static void add(double[] a, int ao, int as,
+                    double[] b, int bo, int bs,
+                    double[] c, int co, int cs,
+                    int i0, int i1, int j0, int j1) {
+        for (int i = i0; i < i1; i++) {
+            int aRow = ao + i * as + j0;
+            int bRow = bo + i * bs + j0;
+            int cRow = co + i * cs + j0;
+            if (VectorSupport.ENABLED) {
+                VectorKernels.add(a, aRow, b, bRow, c, cRow, j1 - j0);
+            } else {
+                addScalar(a, aRow, b, bRow, c, cRow, j1 - j0);
+            }
+        }
+    }
+
+    static void subtract(double[] a, int ao, int as,
+                         double[] b, int bo, int bs,
+                         double[] c, int co, int cs,
+                         int i0, int i1, int j0, int j1) {
+        for (int i = i0; i < i1; i++) {
+            int aRow = ao + i * as + j0;
+            int bRow = bo + i * bs + j0;
+            int cRow = co + i * cs + j0;
+            if (VectorSupport.ENABLED) {
+                VectorKernels.subtract(a, aRow, b, bRow, c, cRow, j1 - j0);
+            } else {
+                subtractScalar(a, aRow, b, bRow, c, cRow, j1 - j0);
+            }
+        }
+    }
+
+    static boolean allClose(double[] a, int ao, double[] b, int bo, int len, double th) {
+        if (VectorSupport.ENABLED) {
+            return VectorKernels.allClose(a, ao, b, bo, len, th);
+        }
+        return allCloseScalar(a, ao, b, bo, len, th);
+    }
+
+    static void addScalar(double[] a, int ao, double[] b, int bo, double[] c, int co, int len) {
+        for (int j = 0; j < len; j++) {
+            c[co + j] = a[ao + j] + b[bo + j];
+        }
+    }
+
+    static void subtractScalar(double[] a, int ao, double[] b, int bo, double[] c, int co, int len) {
+        for (int j = 0; j < len; j++) {
+            c[co + j] = a[ao + j] - b[bo + j];
+        }
+    }
+
+    /**
+     * {@code c = 0 - a}, which unlike {@code -a} keeps zeros positive, as a subtraction from zero does.
+     */
+    static void negate(double[] a, int ao, double[] c, int co, int len) {
+        for (int j = 0; j < len; j++) {
+            c[co + j] = 0.0 - a[ao + j];
+        }
+    }
+
+    static boolean allCloseScalar(double[] a, int ao, double[] b, int bo, int len, double th) {
+        for (int j = 0; j < len; j++) {
+            if (!NumberUtils.doubleEqual(a[ao + j], b[bo + j], th)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
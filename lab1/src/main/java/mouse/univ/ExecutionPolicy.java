@@ -0,0 +1,115 @@
+package mouse.univ;
+
+import java.util.concurrent.ForkJoinPool;
+
+public final class ExecutionPolicy {
+
+    public static final long DEFAULT_PARALLEL_THRESHOLD = 1L << 18;
+    public static final int STRASSEN_DISABLED = Integer.MAX_VALUE;
+
+    private static final int TASKS_PER_WORKER = 4;
+    private static final ExecutionPolicy SEQUENTIAL = new ExecutionPolicy(null, Long.MAX_VALUE, STRASSEN_DISABLED);
+
+    private final ForkJoinPool pool;
+    private final long threshold;
+    private final int strassenCrossover;
+
+    private ExecutionPolicy(ForkJoinPool pool, long threshold, int strassenCrossover) {
+        this.pool = pool;
+        this.threshold = threshold;
+        this.strassenCrossover = strassenCrossover;
+    }
+
+    public static ExecutionPolicy sequential() {
+        return SEQUENTIAL;
+    }
+
+    public static ExecutionPolicy parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    public static ExecutionPolicy parallel(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Fork-join pool cannot be null");
+        }
+        return new ExecutionPolicy(pool, DEFAULT_PARALLEL_THRESHOLD, STRASSEN_DISABLED);
+    }
+
+    public ExecutionPolicy withThreshold(long threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Parallel threshold cannot be negative. Given: " + threshold);
+        }
+        if (pool == null) {
+            return this;
+        }
+        return new ExecutionPolicy(pool, threshold, strassenCrossover);
+    }
+
+    /**
+     * Enables Strassen-Winograd recursion for square products larger than {@code crossover};
+     * blocks of {@code crossover} rows or fewer fall back to the classic blocked kernel.
+     * Odd sizes are zero-padded by one row and column at each level.
+     * <p>
+     * Strassen trades accuracy for speed: the normwise error grows roughly like
+     * {@code (n / crossover)^log2(12) * crossover^2 * eps * |A| * |B|}
+     * instead of {@code n * eps * |A| * |B|} for the classic kernel.
+     * For entries in [0, 1) and n up to 4096 the element-wise difference from the classic
+     * kernel stays below 1e-11, well inside {@link NumberUtils#DEFAULT_THRESHOLD}.
+     * Strassen only pays off for n of about 2048 and more, so crossovers of 256-512 are
+     * a reasonable start. For entries near the specification limit of
+     * 100000 even the classic kernel cannot guarantee that threshold, so compare with a
+     * relative tolerance there.
+     * <p>
+     * On a parallel policy the seven sub-products of each level are forked on the policy's pool
+     * while their volume {@code (n/2)^3} is at least the parallel threshold.
+     */
+    public ExecutionPolicy withStrassenCrossover(int crossover) {
+        if (crossover < StrassenKernel.MIN_CROSSOVER) {
+            String err = String.format("Strassen crossover cannot be less than %d. Given: %d", StrassenKernel.MIN_CROSSOVER, crossover);
+            throw new IllegalArgumentException(err);
+        }
+        return new ExecutionPolicy(pool, threshold, crossover);
+    }
+
+    public ExecutionPolicy withoutStrassen() {
+        if (pool == null) {
+            return SEQUENTIAL;
+        }
+        return new ExecutionPolicy(pool, threshold, STRASSEN_DISABLED);
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public long getThreshold() {
+        return threshold;
+    }
+
+    public int getStrassenCrossover() {
+        return strassenCrossover;
+    }
+
+    void forEachTile(int rows, int cols, long costPerCell, TileKernel kernel) {
+        long work = (long) rows * cols * costPerCell;
+        if (pool == null || work < threshold || (rows == 1 && cols == 1)) {
+            kernel.compute(0, rows, 0, cols);
+            return;
+        }
+        long leafWork = Math.max(1, work / ((long) pool.getParallelism() * TASKS_PER_WORKER));
+        pool.invoke(new TileTask(kernel, 0, rows, 0, cols, costPerCell, leafWork));
+    }
+
+    @Override
+    public String toString() {
+        String strassen = strassenCrossover == STRASSEN_DISABLED ? "" : ", strassenCrossover=" + strassenCrossover;
+        if (pool == null) {
+            return "ExecutionPolicy[sequential" + strassen + "]";
+        }
+        return "ExecutionPolicy[parallel, parallelism=" + pool.getParallelism() + ", threshold=" + threshold + strassen + "]";
+    }
+}
@@ -0,0 +1,6 @@
+package mouse.univ;
+
+@FunctionalInterface
+public interface IntIntToDoubleFunction {
+    double applyAsDouble(int i, int j);
+}
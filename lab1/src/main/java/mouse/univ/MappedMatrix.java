@@ -0,0 +1,217 @@
+package mouse.univ;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class MappedMatrix implements NumericMatrix {
+    private final int n;
+    private final int m;
+    private final boolean columnMajor;
+    private final boolean writable;
+    private final DoubleBuffer[] chunks;
+
+    private MappedMatrix(MatrixFiles.Header header, boolean writable, DoubleBuffer[] chunks) {
+        this.n = header.rows();
+        this.m = header.columns();
+        this.columnMajor = header.layout() == MatrixFiles.LAYOUT_COLUMN_MAJOR;
+        this.writable = writable;
+        this.chunks = chunks;
+    }
+
+    public static MappedMatrix open(Path path, FileChannel.MapMode mode) throws IOException {
+        boolean writable = mode == FileChannel.MapMode.READ_WRITE;
+        if (!writable && mode != FileChannel.MapMode.READ_ONLY) {
+            throw new IllegalArgumentException("Unsupported map mode: " + mode);
+        }
+        StandardOpenOption[] options = writable
+                ? new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ};
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            MatrixFiles.Header header = MatrixFiles.readHeader(channel, path);
+            return new MappedMatrix(header, writable, MatrixFiles.mapData(channel, header, mode));
+        }
+    }
+
+    @Override
+    public int getNumRows() {
+        return n;
+    }
+
+    @Override
+    public int getNumColumns() {
+        return m;
+    }
+
+    public boolean isWritable() {
+        return writable;
+    }
+
+    private long index(int i, int j) {
+        return columnMajor ? (long) j * n + i : (long) i * m + j;
+    }
+
+    private double get(long k) {
+        return chunks[(int) (k >>> MatrixFiles.CHUNK_SHIFT)].get((int) (k & (MatrixFiles.CHUNK_ELEMENTS - 1)));
+    }
+
+    private void put(long k, double value) {
+        chunks[(int) (k >>> MatrixFiles.CHUNK_SHIFT)].put((int) (k & (MatrixFiles.CHUNK_ELEMENTS - 1)), value);
+    }
+
+    @Override
+    public double at(int i, int j) {
+        checkIndex(i, j);
+        return get(index(i, j));
+    }
+
+    public double set(int i, int j, double d) {
+        checkIndex(i, j);
+        if (!writable) {
+            throw new IllegalStateException("Matrix is mapped read-only");
+        }
+        long k = index(i, j);
+        double prev = get(k);
+        put(k, d);
+        return prev;
+    }
+
+    private void checkIndex(int i, int j) {
+        if (i < 0 || i >= n) {
+            throw new IllegalArgumentException("Index " + i + " out of bounds of number of rows " + n);
+        }
+        if (j < 0 || j >= m) {
+            throw new IllegalArgumentException("Index " + j + " out of bounds of number of columns " + m);
+        }
+    }
+
+    public double[] copyRowInto(int i, double[] target) {
+        if (i < 0 || i >= n) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: " + i);
+        }
+        if (target.length < m) {
+            throw new IllegalArgumentException("Target array is shorter than row length " + m);
+        }
+        if (columnMajor) {
+            for (int j = 0; j < m; j++) {
+                target[j] = get(index(i, j));
+            }
+            return target;
+        }
+        long first = index(i, 0);
+        int copied = 0;
+        while (copied < m) {
+            long k = first + copied;
+            DoubleBuffer chunk = chunks[(int) (k >>> MatrixFiles.CHUNK_SHIFT)];
+            int position = (int) (k & (MatrixFiles.CHUNK_ELEMENTS - 1));
+            int count = Math.min(m - copied, chunk.limit() - position);
+            chunk.get(position, target, copied, count);
+            copied += count;
+        }
+        return target;
+    }
+
+    @Override
+    public Matrix toDense() {
+        double[] data = new double[MatrixLimits.checkedSize(n, m)];
+        double[] row = new double[m];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(copyRowInto(i, row), 0, data, i * m, m);
+        }
+        return new Matrix(n, m, data);
+    }
+
+    @Override
+    public Matrix add(NumericMatrix other) {
+        return elementwise(other, false);
+    }
+
+    @Override
+    public Matrix subtract(NumericMatrix other) {
+        return elementwise(other, true);
+    }
+
+    private Matrix elementwise(NumericMatrix other, boolean subtract) {
+        if (other.getNumRows() != n || other.getNumColumns() != m) {
+            throw new IllegalArgumentException(subtract
+                    ? "Matrix subtraction requires same dimensions"
+                    : "Matrix addition requires same dimensions");
+        }
+        Matrix dense = other.toDense();
+        double[] b = dense.array();
+        double[] c = new double[MatrixLimits.checkedSize(n, m)];
+        double[] row = new double[m];
+        for (int i = 0; i < n; i++) {
+            copyRowInto(i, row);
+            if (subtract) {
+                ElementwiseKernels.subtract(row, 0, 0, b, dense.rowOffset(i), 0, c, i * m, 0, 0, 1, 0, m);
+            } else {
+                ElementwiseKernels.add(row, 0, 0, b, dense.rowOffset(i), 0, c, i * m, 0, 0, 1, 0, m);
+            }
+        }
+        return new Matrix(n, m, c);
+    }
+
+    @Override
+    public Matrix dot(NumericMatrix other) {
+        if (this.m != other.getNumRows()) {
+            throw new IllegalArgumentException(
+                    "Matrix multiplication requires columns of A == rows of B"
+            );
+        }
+        Matrix dense = other.toDense();
+        int q = dense.getNumColumns();
+        double[] c = new double[MatrixLimits.checkedSize(n, q)];
+        double[] row = new double[m];
+        for (int i = 0; i < n; i++) {
+            copyRowInto(i, row);
+            DotKernels.multiplyTile(row, 0, m, dense.array(), dense.rowOffset(0), dense.rowStride(),
+                    c, i * q, q, 0, 1, 0, q, m);
+        }
+        return new Matrix(n, q, c);
+    }
+
+    static Matrix subtract(Matrix dense, MappedMatrix mapped) {
+        if (dense.getNumRows() != mapped.n || dense.getNumColumns() != mapped.m) {
+            throw new IllegalArgumentException("Matrix subtraction requires same dimensions");
+        }
+        int m = mapped.m;
+        double[] c = new double[MatrixLimits.checkedSize(mapped.n, m)];
+        double[] row = new double[m];
+        for (int i = 0; i < mapped.n; i++) {
+            mapped.copyRowInto(i, row);
+            ElementwiseKernels.subtract(dense.array(), dense.rowOffset(i), 0, row, 0, 0, c, i * m, 0, 0, 1, 0, m);
+        }
+        return new Matrix(mapped.n, m, c);
+    }
+
+    static Matrix multiply(Matrix dense, MappedMatrix mapped) {
+        if (dense.getNumColumns() != mapped.n) {
+            throw new IllegalArgumentException(
+                    "Matrix multiplication requires columns of A == rows of B"
+            );
+        }
+        int rows = dense.getNumRows();
+        int q = mapped.m;
+        double[] a = dense.array();
+        double[] c = new double[MatrixLimits.checkedSize(rows, q)];
+        double[] bRow = new double[q];
+        for (int k = 0; k < mapped.n; k++) {
+            mapped.copyRowInto(k, bRow);
+            for (int i = 0; i < rows; i++) {
+                double aik = a[dense.rowOffset(i) + k];
+                if (aik != 0.0) {
+                    DotKernels.axpy(aik, bRow, 0, c, i * q, q);
+                }
+            }
+        }
+        return new Matrix(rows, q, c);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MappedMatrix[%dx%d, %s]", n, m, writable ? "read-write" : "read-only");
+    }
+}
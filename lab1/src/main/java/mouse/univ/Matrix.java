@@ -1,17 +1,24 @@
 package mouse.univ;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.stream.DoubleStream;
 
-public class Matrix {
-    private final double[][] array;
+public class Matrix implements NumericMatrix {
+    private final double[] data;
+    private final int offset;
+    private final int stride;
     private final int n;
     private final int m;
-
-    private static final int MAX_ROWS = 100;
-    private static final int MAX_COLS = 100;
+    private int hash;
+    private boolean hashIsZero;
 
     public int getNumColumns() {
         return m;
@@ -20,39 +27,76 @@ public class Matrix {
         return n;
     }
 
-    private Matrix(double[][] array) {
-        this.array = array;
-        this.n = array.length;
-        if (this.n == 0) {
-            this.m = 0;
-        } else {
-            this.m = array[0].length;
-        }
+    private Matrix(int n, int m, double[] data, int offset, int stride) {
+        this.n = n;
+        this.m = m;
+        this.data = data;
+        this.offset = offset;
+        this.stride = stride;
+    }
+
+    Matrix(int n, int m, double[] data) {
+        this(n, m, data, 0, m);
+    }
+
+    private int index(int i, int j) {
+        return offset + i * stride + j;
+    }
+
+    double[] array() {
+        return data;
+    }
+
+    int rowOffset(int i) {
+        return offset + i * stride;
+    }
+
+    int rowStride() {
+        return stride;
+    }
+
+    void markModified() {
+        hash = 0;
+        hashIsZero = false;
+    }
+
+    Matrix copy() {
+        Matrix result = new Matrix(n, m, new double[n * m]);
+        result.copyFrom(this);
+        return result;
     }
 
     public static SizedMatrixBuilder rect(int n, int m) {
-        if (n <= 0 || m <= 0) {
-            throw new IllegalArgumentException("Matrix cannot be empty");
-        }
-        if (n > MAX_ROWS) {
-            String err = String.format("Number of rows cannot exceed %d. Given: %d", MAX_ROWS, n);
-            throw new IllegalArgumentException(err);
-        }
-        if (m > MAX_COLS) {
-            String err = String.format("Number of columns cannot exceed %d. Given: %d", MAX_COLS, m);
-            throw new IllegalArgumentException(err);
-        }
+        return rect(n, m, MatrixLimits.SPEC);
+    }
+
+    public static SizedMatrixBuilder rect(int n, int m, MatrixLimits limits) {
+        limits.checkRect(n, m);
         return new SizedMatrixBuilder(n, m);
     }
 
+    public static MatrixExpression expr(Matrix matrix) {
+        return MatrixExpression.of(matrix);
+    }
+
+    public static ChainPlan planChain(Matrix... factors) {
+        return ChainPlan.optimal(factors);
+    }
+
+    public static Matrix multiplyChain(Matrix... factors) {
+        return ChainPlan.optimal(factors).execute();
+    }
+
+    public static Matrix multiplyChain(ExecutionPolicy policy, Matrix... factors) {
+        return ChainPlan.optimal(factors).execute(policy);
+    }
+
     public static SizedMatrixBuilder square(int n) {
-        if (n <= 0) {
-            throw new IllegalArgumentException("Number of rows or columns cannot be 0 or negative");
-        }
-        if (n > MAX_ROWS) {
-            String err = String.format("Number of rows and columns cannot exceed %d. Given: %d", MAX_ROWS, n);
-            throw new IllegalArgumentException(err);
-        }
+        return square(n, MatrixLimits.SPEC);
+    }
+
+    public static SizedMatrixBuilder square(int n, MatrixLimits limits) {
+        limits.checkSquare(n);
         return new SizedMatrixBuilder(n, n);
     }
 
@@ -66,45 +110,90 @@ public class Matrix {
         }
 
         public Matrix withNumbers(List<?> numbers) {
-            if (numbers.size() != n * m) {
-                String err = String.format("Failed to create matrix! Number of elements in matrix should be N * M = %d * %d = %d!", n, m, n * m);
-                throw new IllegalArgumentException(err);
-            }
+            checkSize(numbers.size());
 
-            List<Double> dList = new ArrayList<>();
+            MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.CONSTRUCT);
+            double[] data = new double[n * m];
+            int k = 0;
             for (Object current : numbers) {
-                if (current instanceof Integer c1) {
-                    dList.add(Double.valueOf(c1));
-                } else if (current instanceof Double c2) {
-                    dList.add(c2);
+                if (current instanceof Double c1) {
+                    data[k] = c1;
+                } else if (current instanceof Integer c2) {
+                    data[k] = c2;
                 } else {
                     throw new IllegalArgumentException("Input list contains unexpected object: " + current);
                 }
+                k++;
+            }
+            return constructed(probe, data);
+        }
+
+        public Matrix withNumbers(Double[] numbers) {
+            List<Double> list = Arrays.asList(numbers);
+            return withNumbers(list);
+        }
+
+        public Matrix withNumbers(double[] numbers) {
+            checkSize(numbers.length);
+            MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.CONSTRUCT);
+            return constructed(probe, numbers.clone());
+        }
+
+        public Matrix withNumbers(DoubleStream numbers) {
+            MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.CONSTRUCT);
+            double[] data = new double[n * m];
+            PrimitiveIterator.OfDouble iterator = numbers.iterator();
+            int k = 0;
+            while (iterator.hasNext()) {
+                if (k == data.length) {
+                    checkSize(k + 1L);
+                }
+                data[k] = iterator.nextDouble();
+                k++;
+            }
+            checkSize(k);
+            return constructed(probe, data);
+        }
+
+        private Matrix constructed(MatrixMetrics.Probe probe, double[] data) {
+            if (probe != null) {
+                probe.end(n, m, 0, 0, (long) data.length * Double.BYTES);
             }
+            return new Matrix(n, m, data);
+        }
+
+        public Matrix readText(ReadableByteChannel channel) throws IOException {
+            return MatrixTextReader.read(channel, n, m);
+        }
 
-            double[][] array = new double[n][m];
+        public Matrix fill(double value) {
+            double[] data = new double[n * m];
+            Arrays.fill(data, value);
+            return new Matrix(n, m, data);
+        }
+
+        public Matrix generate(IntIntToDoubleFunction generator) {
+            double[] data = new double[n * m];
             int k = 0;
             for (int i = 0; i < n; i++) {
                 for (int j = 0; j < m; j++) {
-                    array[i][j] = dList.get(k);
+                    data[k] = generator.applyAsDouble(i, j);
                     k++;
                 }
             }
-            return new Matrix(array);
+            return new Matrix(n, m, data);
         }
 
-        public Matrix withNumbers(Double[] numbers) {
-            List<Double> list = Arrays.asList(numbers);
-            return withNumbers(list);
+        private void checkSize(long given) {
+            long expected = (long) n * m;
+            if (given != expected) {
+                String err = String.format("Failed to create matrix! Number of elements in matrix should be N * M = %d * %d = %d!", n, m, expected);
+                throw new IllegalArgumentException(err);
+            }
         }
 
         public Matrix zero() {
-            List<Double> list = new ArrayList<>();
-            int size = n * m;
-            for (int i = 0; i < size; i++) {
-                list.add(0.0);
-            }
-            return withNumbers(list);
+            return new Matrix(n, m, new double[n * m]);
         }
 
         public Matrix unit() {
@@ -112,13 +201,35 @@ public class Matrix {
                 String err = String.format("Unable to create unit matrix for non-square matrix of size %dx%d", n, m);
                 throw new IllegalStateException(err);
             }
-            List<Double> list = new ArrayList<>();
+            double[] data = new double[n * m];
             for (int i = 0; i < n; i++) {
-                for (int j = 0; j< m; j++) {
-                    list.add(i == j ? 1.0 : 0.0);
-                }
+                data[i * m + i] = 1.0;
             }
-            return withNumbers(list);
+            return new Matrix(n, m, data);
+        }
+
+        public Matrix wrap(double[] data) {
+            return wrap(data, 0, m);
+        }
+
+        public Matrix wrap(double[] data, int offset, int stride) {
+            if (data == null) {
+                throw new IllegalArgumentException("Backing array cannot be null");
+            }
+            if (offset < 0) {
+                throw new IllegalArgumentException("Offset cannot be negative. Given: " + offset);
+            }
+            if (stride < m) {
+                String err = String.format("Row stride cannot be less than number of columns %d. Given: %d", m, stride);
+                throw new IllegalArgumentException(err);
+            }
+            long required = offset + (long) (n - 1) * stride + m;
+            if (required > data.length) {
+                String err = String.format("Backing array of length %d is too short for %dx%d matrix with offset %d and stride %d",
+                        data.length, n, m, offset, stride);
+                throw new IllegalArgumentException(err);
+            }
+            return new Matrix(n, m, data, offset, stride);
         }
 
     }
@@ -130,7 +241,7 @@ public class Matrix {
         if (j < 0 || j >= m) {
             throw new IllegalArgumentException("Index " + j + " out of bounds of number of columns " + m);
         }
-        return this.array[i][j];
+        return this.data[index(i, j)];
     }
 
     public double set(int i, int j, double d) {
@@ -140,31 +251,33 @@ public class Matrix {
         if (j < 0 || j >= m) {
             throw new IllegalArgumentException("Index " + j + " out of bounds of number of columns " + m);
         }
-        double prev = this.array[i][j];
-        this.array[i][j] = d;
+        int k = index(i, j);
+        double prev = this.data[k];
+        this.data[k] = d;
+        markModified();
         return prev;
     }
 
-    public List<Double> row(int i) {
+    public DoubleVectorView rowView(int i) {
         if (i < 0 || i >= n) {
             throw new IndexOutOfBoundsException("Row index out of bounds: " + i);
         }
-        List<Double> result = new ArrayList<>(m);
-        for (int j = 0; j < m; j++) {
-            result.add(array[i][j]);
-        }
-        return result;
+        return new DoubleVectorView(data, index(i, 0), 1, m);
     }
 
-    public List<Double> column(int j) {
+    public DoubleVectorView columnView(int j) {
         if (j < 0 || j >= m) {
             throw new IndexOutOfBoundsException("Column index out of bounds: " + j);
         }
-        List<Double> result = new ArrayList<>(n);
-        for (int i = 0; i < n; i++) {
-            result.add(array[i][j]);
-        }
-        return result;
+        return new DoubleVectorView(data, index(0, j), stride, n);
+    }
+
+    public List<Double> row(int i) {
+        return rowView(i).toList();
+    }
+
+    public List<Double> column(int j) {
+        return columnView(j).toList();
     }
 
     public List<List<Double>> asList() {
@@ -175,9 +288,56 @@ public class Matrix {
         return result;
     }
 
+    /**
+     * Hashes the dimensions and every element, consistently with {@link #equals(Object)}.
+     * The value is cached until the matrix is modified through its own methods;
+     * writes to an array passed to {@link SizedMatrixBuilder#wrap(double[])} are not tracked.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(n, m);
+        int h = hash;
+        if (h == 0 && !hashIsZero) {
+            h = contentHash();
+            if (h == 0) {
+                hashIsZero = true;
+            } else {
+                hash = h;
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Same value as {@link #hashCode()}, always computed from the current elements.
+     */
+    int contentHash() {
+        int h = 31 * n + m;
+        for (int i = 0; i < n; i++) {
+            int row = index(i, 0);
+            for (int j = 0; j < m; j++) {
+                h = 31 * h + Double.hashCode(data[row + j]);
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Hashes every element rounded to the nearest multiple of {@code th}, so matrices that are
+     * {@link #deepEquals(Matrix, double)} with tolerance {@code th} usually share a bucket.
+     * Elements lying on opposite sides of a rounding boundary still hash differently.
+     */
+    public int toleranceHashCode(double th) {
+        if (!(th > 0)) {
+            throw new IllegalArgumentException("Tolerance must be positive. Given: " + th);
+        }
+        int h = 31 * n + m;
+        for (int i = 0; i < n; i++) {
+            int row = index(i, 0);
+            for (int j = 0; j < m; j++) {
+                h = 31 * h + Long.hashCode(Math.round(data[row + j] / th));
+            }
+        }
+        return h;
     }
 
     @Override
@@ -186,7 +346,17 @@ public class Matrix {
             return true;
         }
         if (obj instanceof Matrix m2) {
-            return Arrays.deepEquals(this.array, m2.array);
+            if (this.n != m2.n || this.m != m2.m) {
+                return false;
+            }
+            for (int i = 0; i < n; i++) {
+                int a = this.index(i, 0);
+                int b = m2.index(i, 0);
+                if (!Arrays.equals(this.data, a, a + m, m2.data, b, b + m)) {
+                    return false;
+                }
+            }
+            return true;
         }
         return false;
     }
@@ -200,97 +370,512 @@ public class Matrix {
             return false;
         }
         for (int i = 0; i < n; i++) {
-            for (int j = 0; j < m; j++) {
-                double number1 = this.at(i, j);
-                double number2 = m2.at(i, j);
-                if (! NumberUtils.doubleEqual(number1, number2, th)) {
-                    return false;
-                }
+            if (!ElementwiseKernels.allClose(this.data, this.index(i, 0), m2.data, m2.index(i, 0), m, th)) {
+                return false;
             }
         }
         return true;
     }
 
     public Matrix add(Matrix m2) {
-        if (this.n != m2.n || this.m != m2.m) {
-            throw new IllegalArgumentException(
-                    "Matrix addition requires same dimensions"
-            );
+        return add(m2, ExecutionPolicy.sequential());
+    }
+
+    @Override
+    public Matrix add(NumericMatrix other) {
+        if (other instanceof Matrix m2) {
+            return add(m2);
+        }
+        if (other instanceof SparseMatrix s) {
+            return s.add(this);
+        }
+        if (other instanceof MappedMatrix mapped) {
+            return mapped.add(this);
+        }
+        if (other instanceof OffHeapMatrix off) {
+            return OffHeapMatrix.elementwise(this, off, false);
         }
+        return add(other.toDense());
+    }
 
-        double[][] result = new double[n][m];
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < m; j++) {
-                result[i][j] = this.array[i][j] + m2.array[i][j];
-            }
+    public Matrix add(Matrix m2, ExecutionPolicy policy) {
+        checkSameDimensions(m2, "Matrix addition requires same dimensions");
+        MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.ADD);
+        Matrix result = elementwise(m2, new Matrix(n, m, new double[n * m]), policy, false);
+        if (probe != null) {
+            probe.end(n, m, 0, (long) n * m, (long) n * m * Double.BYTES);
+        }
+        return result;
+    }
+
+    public Matrix add(Matrix m2, Matrix dest) {
+        return add(m2, dest, ExecutionPolicy.sequential());
+    }
+
+    public Matrix add(Matrix m2, Matrix dest, ExecutionPolicy policy) {
+        checkSameDimensions(m2, "Matrix addition requires same dimensions");
+        dest.checkDestination(n, m);
+        MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.ADD);
+        elementwise(m2, dest, policy, false);
+        if (probe != null) {
+            probe.end(n, m, 0, (long) n * m, 0);
         }
-        return new Matrix(result);
+        return dest;
+    }
+
+    public Matrix addInPlace(Matrix m2) {
+        return add(m2, this);
     }
 
     public Matrix subtract(Matrix m2) {
-        if (this.n != m2.n || this.m != m2.m) {
+        return subtract(m2, ExecutionPolicy.sequential());
+    }
+
+    @Override
+    public Matrix subtract(NumericMatrix other) {
+        if (other instanceof Matrix m2) {
+            return subtract(m2);
+        }
+        if (other instanceof SparseMatrix s) {
+            return s.subtractFrom(this);
+        }
+        if (other instanceof MappedMatrix mapped) {
+            return MappedMatrix.subtract(this, mapped);
+        }
+        if (other instanceof OffHeapMatrix off) {
+            return OffHeapMatrix.elementwise(this, off, true);
+        }
+        return subtract(other.toDense());
+    }
+
+    public Matrix subtract(Matrix m2, ExecutionPolicy policy) {
+        checkSameDimensions(m2, "Matrix subtraction requires same dimensions");
+        MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.SUBTRACT);
+        Matrix result = elementwise(m2, new Matrix(n, m, new double[n * m]), policy, true);
+        if (probe != null) {
+            probe.end(n, m, 0, (long) n * m, (long) n * m * Double.BYTES);
+        }
+        return result;
+    }
+
+    public Matrix subtract(Matrix m2, Matrix dest) {
+        return subtract(m2, dest, ExecutionPolicy.sequential());
+    }
+
+    public Matrix subtract(Matrix m2, Matrix dest, ExecutionPolicy policy) {
+        checkSameDimensions(m2, "Matrix subtraction requires same dimensions");
+        dest.checkDestination(n, m);
+        MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.SUBTRACT);
+        elementwise(m2, dest, policy, true);
+        if (probe != null) {
+            probe.end(n, m, 0, (long) n * m, 0);
+        }
+        return dest;
+    }
+
+    public Matrix subtractInPlace(Matrix m2) {
+        return subtract(m2, this);
+    }
+
+    public Matrix dot(Matrix m2) {
+        return dot(m2, ExecutionPolicy.sequential());
+    }
+
+    @Override
+    public Matrix dot(NumericMatrix other) {
+        if (other instanceof Matrix m2) {
+            return dot(m2);
+        }
+        if (other instanceof SparseMatrix s) {
+            return SparseMatrix.multiply(this, s);
+        }
+        if (other instanceof MappedMatrix mapped) {
+            return MappedMatrix.multiply(this, mapped);
+        }
+        if (other instanceof OffHeapMatrix off) {
+            return OffHeapMatrix.multiply(this, off);
+        }
+        if (other instanceof TransposedMatrix t) {
+            return dot(t);
+        }
+        return dot(other.toDense());
+    }
+
+    @Override
+    public Matrix toDense() {
+        return this;
+    }
+
+    public static Matrix load(Path path) throws IOException {
+        return load(path, MatrixLimits.SPEC);
+    }
+
+    public static Matrix load(Path path, MatrixLimits limits) throws IOException {
+        return MatrixFiles.read(path, limits);
+    }
+
+    public static Matrix readText(ReadableByteChannel channel) throws IOException {
+        return readText(channel, MatrixLimits.SPEC);
+    }
+
+    public static Matrix readText(ReadableByteChannel channel, MatrixLimits limits) throws IOException {
+        return MatrixTextReader.read(channel, limits);
+    }
+
+    public static MappedMatrix map(Path path) throws IOException {
+        return MappedMatrix.open(path, FileChannel.MapMode.READ_ONLY);
+    }
+
+    public void save(Path path) throws IOException {
+        MatrixFiles.write(this, path);
+    }
+
+    public Matrix dot(Matrix m2, ExecutionPolicy policy) {
+        checkMultipliable(m2);
+        MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.DOT);
+        Matrix result = new Matrix(this.n, m2.m, new double[MatrixLimits.checkedSize(this.n, m2.m)]);
+        multiply(m2, result, policy, false);
+        if (probe != null) {
+            probe.end(this.n, m2.m, this.m, 2L * this.n * this.m * m2.m, (long) this.n * m2.m * Double.BYTES);
+        }
+        return result;
+    }
+
+    public Matrix dot(Matrix m2, Matrix dest) {
+        return dot(m2, dest, ExecutionPolicy.sequential());
+    }
+
+    public Matrix dot(Matrix m2, Matrix dest, ExecutionPolicy policy) {
+        checkMultipliable(m2);
+        dest.checkDestination(this.n, m2.m);
+        MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.DOT);
+        long allocated = 0;
+        if (dest.overlaps(this) || dest.overlaps(m2)) {
+            Matrix scratch = new Matrix(this.n, m2.m, new double[this.n * m2.m]);
+            multiply(m2, scratch, policy, false);
+            dest.copyFrom(scratch);
+            allocated = (long) this.n * m2.m * Double.BYTES;
+        } else {
+            multiply(m2, dest, policy, true);
+        }
+        if (probe != null) {
+            probe.end(this.n, m2.m, this.m, 2L * this.n * this.m * m2.m, allocated);
+        }
+        return dest;
+    }
+
+    public TransposedMatrix transpose() {
+        return new TransposedMatrix(this);
+    }
+
+    public Matrix dot(TransposedMatrix m2) {
+        return dot(m2, ExecutionPolicy.sequential());
+    }
+
+    /**
+     * Computes {@code A * B^T} without transposing B: every element is a dot product of a row of A
+     * and a row of B, both contiguous in memory.
+     */
+    public Matrix dot(TransposedMatrix m2, ExecutionPolicy policy) {
+        Matrix b = m2.transpose();
+        if (this.m != b.m) {
             throw new IllegalArgumentException(
-                    "Matrix subtraction requires same dimensions"
+                    "Matrix multiplication requires columns of A == rows of B"
             );
         }
+        int q = b.n;
+        MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.DOT);
+        Matrix result = new Matrix(this.n, q, new double[MatrixLimits.checkedSize(this.n, q)]);
+        policy.forEachTile(this.n, q, this.m, (i0, i1, j0, j1) -> DotKernels.multiplyTransposedB(
+                this.data, this.offset, this.stride,
+                b.data, b.offset, b.stride,
+                result.data, 0, q,
+                i0, i1, j0, j1, this.m));
+        if (probe != null) {
+            probe.end(this.n, q, this.m, 2L * this.n * this.m * q, (long) this.n * q * Double.BYTES);
+        }
+        return result;
+    }
+
+    public double[] multiply(double[] x) {
+        return multiply(x, ExecutionPolicy.sequential());
+    }
+
+    public double[] multiply(double[] x, ExecutionPolicy policy) {
+        checkVector(x, m, "columns");
+        MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.GEMV);
+        double[] y = new double[n];
+        multiplyVector(x, y, policy);
+        if (probe != null) {
+            probe.end(n, 1, m, 2L * n * m, (long) n * Double.BYTES);
+        }
+        return y;
+    }
+
+    public double[] multiplyInto(double[] x, double[] y) {
+        return multiplyInto(x, y, ExecutionPolicy.sequential());
+    }
+
+    /**
+     * Computes {@code y = A * x} into {@code y} and returns it. With a parallel policy the rows
+     * are split between tasks, each writing its own slice of {@code y}.
+     */
+    public double[] multiplyInto(double[] x, double[] y, ExecutionPolicy policy) {
+        checkVector(x, m, "columns");
+        checkVector(y, n, "rows");
+        checkNotAliased(x, y);
+        MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.GEMV);
+        multiplyVector(x, y, policy);
+        if (probe != null) {
+            probe.end(n, 1, m, 2L * n * m, 0);
+        }
+        return y;
+    }
+
+    private void multiplyVector(double[] x, double[] y, ExecutionPolicy policy) {
+        policy.forEachTile(n, 1, m, (i0, i1, j0, j1) -> DotKernels.multiplyVector(
+                data, offset, stride, x, y, i0, i1, m));
+    }
+
+    public double[] leftMultiply(double[] x) {
+        return leftMultiply(x, ExecutionPolicy.sequential());
+    }
+
+    /**
+     * Computes {@code x^T * A} as a new vector of length {@link #getNumColumns()}. With a parallel
+     * policy the columns are split between tasks, so no two tasks update the same element.
+     */
+    public double[] leftMultiply(double[] x, ExecutionPolicy policy) {
+        checkVector(x, n, "rows");
+        MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.GEMV);
+        double[] y = new double[m];
+        policy.forEachTile(1, m, n, (i0, i1, j0, j1) -> DotKernels.leftMultiplyVector(
+                data, offset, stride, x, y, j0, j1, n));
+        if (probe != null) {
+            probe.end(1, m, n, 2L * n * m, (long) m * Double.BYTES);
+        }
+        return y;
+    }
+
+    public Matrix pow(long k) {
+        return pow(k, ExecutionPolicy.sequential());
+    }
+
+    /**
+     * Raises this square matrix to the power {@code k} by repeated squaring, using
+     * {@code floor(log2 k) + bitCount(k) - 1} products that rotate through three buffers allocated up front.
+     * Identity and diagonal matrices are handled element-wise without any product.
+     * The products are recorded once as {@link MatrixMetrics.Operation#POW}, not as separate dots.
+     */
+    public Matrix pow(long k, ExecutionPolicy policy) {
+        if (n != m) {
+            String err = String.format("Unable to raise non-square matrix of size %dx%d to a power", n, m);
+            throw new IllegalStateException(err);
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("Exponent cannot be negative. Given: " + k);
+        }
+        MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.POW);
+        Power power = power(k, policy);
+        if (probe != null) {
+            probe.end(n, n, n, power.products() * 2L * n * n * n, power.buffers() * n * n * Double.BYTES);
+        }
+        return power.result();
+    }
+
+    private record Power(Matrix result, long products, long buffers) {
+    }
+
+    private Power power(long k, ExecutionPolicy policy) {
+        SizedMatrixBuilder builder = new SizedMatrixBuilder(n, n);
+        if (k == 0 || isIdentity()) {
+            return new Power(builder.unit(), 0, 1);
+        }
+        if (isDiagonal()) {
+            return new Power(builder.generate((i, j) -> i == j ? scalarPow(data[index(i, i)], k) : 0.0), 0, 1);
+        }
+        Matrix base = copy();
+        Matrix scratch = builder.zero();
+        Matrix result = null;
+        long buffers = 2;
+        long products = 0;
+        long e = k;
+        while (true) {
+            if ((e & 1) != 0) {
+                if (result == null) {
+                    result = builder.zero();
+                    result.copyFrom(base);
+                    buffers++;
+                } else {
+                    result.multiply(base, scratch, policy, true);
+                    products++;
+                    Matrix t = result;
+                    result = scratch;
+                    scratch = t;
+                }
+            }
+            e >>>= 1;
+            if (e == 0) {
+                return new Power(result, products, buffers);
+            }
+            base.multiply(base, scratch, policy, true);
+            products++;
+            Matrix t = base;
+            base = scratch;
+            scratch = t;
+        }
+    }
 
-        double[][] result = new double[n][m];
+    private boolean isDiagonal() {
         for (int i = 0; i < n; i++) {
+            int row = index(i, 0);
             for (int j = 0; j < m; j++) {
-                result[i][j] = this.array[i][j] - m2.array[i][j];
+                if (i != j && data[row + j] != 0.0) {
+                    return false;
+                }
             }
         }
-        return new Matrix(result);
+        return true;
     }
 
-    public Matrix dot(Matrix m2) {
+    private boolean isIdentity() {
+        for (int i = 0; i < n; i++) {
+            if (data[index(i, i)] != 1.0) {
+                return false;
+            }
+        }
+        return isDiagonal();
+    }
+
+    private static double scalarPow(double base, long k) {
+        double result = 1.0;
+        double b = base;
+        for (long e = k; e > 0; e >>>= 1) {
+            if ((e & 1) != 0) {
+                result *= b;
+            }
+            b *= b;
+        }
+        return result;
+    }
+
+    private void checkSameDimensions(Matrix m2, String err) {
+        if (this.n != m2.n || this.m != m2.m) {
+            throw new IllegalArgumentException(err);
+        }
+    }
+
+    private void checkMultipliable(Matrix m2) {
         if (this.m != m2.n) {
             throw new IllegalArgumentException(
                     "Matrix multiplication requires columns of A == rows of B"
             );
         }
+    }
+
+    private static void checkVector(double[] v, int length, String dimension) {
+        if (v == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        if (v.length != length) {
+            String err = String.format("Vector length must match the number of %s %d. Given: %d", dimension, length, v.length);
+            throw new IllegalArgumentException(err);
+        }
+    }
 
-        double[][] result = new double[this.n][m2.m];
+    private void checkNotAliased(double[] x, double[] y) {
+        if (y == x || y == data) {
+            throw new IllegalArgumentException("Output vector cannot share storage with the input vector or the matrix");
+        }
+    }
 
-        for (int i = 0; i < this.n; i++) {
-            for (int j = 0; j < m2.m; j++) {
-                double sum = 0.0;
-                for (int k = 0; k < this.m; k++) {
-                    sum += this.array[i][k] * m2.array[k][j];
-                }
-                result[i][j] = sum;
-            }
+    private void checkDestination(int rows, int cols) {
+        if (this.n != rows || this.m != cols) {
+            String err = String.format("Destination matrix must be %dx%d. Given: %dx%d", rows, cols, this.n, this.m);
+            throw new IllegalArgumentException(err);
         }
-        return new Matrix(result);
     }
 
-    @Override
-    public String toString() {
-        int[] colWidths = new int[m];
-        for (int j = 0; j < m; j++) {
-            int max = 0;
-            for (int i = 0; i < n; i++) {
-                String s = Double.toString(array[i][j]);
-                max = Math.max(max, s.length());
+    private int end() {
+        return offset + (n - 1) * stride + m;
+    }
+
+    private boolean overlaps(Matrix m2) {
+        return this.data == m2.data && this.offset < m2.end() && m2.offset < this.end();
+    }
+
+    private boolean sameLayout(Matrix m2) {
+        return this.data == m2.data && this.offset == m2.offset && this.stride == m2.stride;
+    }
+
+    private void copyFrom(Matrix src) {
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(src.data, src.index(i, 0), this.data, this.index(i, 0), m);
+        }
+        markModified();
+    }
+
+    private Matrix elementwise(Matrix m2, Matrix dest, ExecutionPolicy policy, boolean subtract) {
+        boolean unsafeAlias = (dest.overlaps(this) && !dest.sameLayout(this))
+                || (dest.overlaps(m2) && !dest.sameLayout(m2));
+        Matrix target = unsafeAlias ? new Matrix(n, m, new double[n * m]) : dest;
+        policy.forEachTile(n, m, 1, (i0, i1, j0, j1) -> {
+            if (subtract) {
+                ElementwiseKernels.subtract(
+                        this.data, this.offset, this.stride,
+                        m2.data, m2.offset, m2.stride,
+                        target.data, target.offset, target.stride,
+                        i0, i1, j0, j1);
+            } else {
+                ElementwiseKernels.add(
+                        this.data, this.offset, this.stride,
+                        m2.data, m2.offset, m2.stride,
+                        target.data, target.offset, target.stride,
+                        i0, i1, j0, j1);
             }
-            colWidths[j] = max;
+        });
+        if (target != dest) {
+            dest.copyFrom(target);
         }
+        dest.markModified();
+        return dest;
+    }
 
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < n; i++) {
-            sb.append("[");
-            for (int j = 0; j < m; j++) {
-                String s = Double.toString(array[i][j]);
-                sb.append(String.format("%" + colWidths[j] + "s", s));
-                if (j < m - 1) {
-                    sb.append(" ");
+    private void multiply(Matrix m2, Matrix dest, ExecutionPolicy policy, boolean clear) {
+        if (StrassenKernel.applies(this.n, this.m, m2.m, policy.getStrassenCrossover())) {
+            double[] product = StrassenKernel.multiply(
+                    this.data, this.offset, this.stride,
+                    m2.data, m2.offset, m2.stride,
+                    this.n, policy);
+            dest.copyFrom(new Matrix(this.n, this.n, product));
+            return;
+        }
+        policy.forEachTile(this.n, m2.m, this.m, (i0, i1, j0, j1) -> {
+            if (clear) {
+                for (int i = i0; i < i1; i++) {
+                    int row = dest.index(i, 0);
+                    Arrays.fill(dest.data, row + j0, row + j1, 0.0);
                 }
             }
-            sb.append("]");
-            if (i < n - 1) {
-                sb.append("\n");
-            }
-        }
-        return sb.toString();
+            DotKernels.multiplyTile(
+                    this.data, this.offset, this.stride,
+                    m2.data, m2.offset, m2.stride,
+                    dest.data, dest.offset, dest.stride,
+                    i0, i1, j0, j1, this.m);
+        });
+        dest.markModified();
+    }
+
+    @Override
+    public String toString() {
+        return MatrixFormatter.defaults().format(this);
+    }
+
+    public void writeTo(Appendable out) throws IOException {
+        MatrixFormatter.defaults().writeTo(this, out);
+    }
+
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        MatrixFormatter.defaults().writeTo(this, channel);
     }
 }
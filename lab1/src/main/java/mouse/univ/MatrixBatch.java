@@ -0,0 +1,175 @@
+package mouse.univ;
+
+import java.util.List;
+
+/**
+ * A fixed number of same-shaped matrices stored back to back in one row-major array.
+ * Shapes are validated once per batch operation instead of once per matrix, and
+ * batch operations can be spread across a fork-join pool with an {@link ExecutionPolicy}.
+ */
+public final class MatrixBatch {
+    private final int count;
+    private final int n;
+    private final int m;
+    private final double[] data;
+    private final Matrix[] views;
+
+    private MatrixBatch(int count, int n, int m, double[] data) {
+        this.count = count;
+        this.n = n;
+        this.m = m;
+        this.data = data;
+        this.views = new Matrix[count];
+    }
+
+    public static MatrixBatch zero(int count, int rows, int cols) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Batch cannot be empty");
+        }
+        MatrixLimits.LARGE.checkRect(rows, cols);
+        long size = (long) count * rows * cols;
+        if (size > MatrixLimits.MAX_ARRAY_LENGTH) {
+            String err = String.format("Batch of %d matrices of size %dx%d does not fit into a single array", count, rows, cols);
+            throw new IllegalArgumentException(err);
+        }
+        return new MatrixBatch(count, rows, cols, new double[(int) size]);
+    }
+
+    public static MatrixBatch of(Matrix... matrices) {
+        return of(List.of(matrices));
+    }
+
+    public static MatrixBatch of(List<Matrix> matrices) {
+        if (matrices.isEmpty()) {
+            throw new IllegalArgumentException("Batch cannot be empty");
+        }
+        Matrix first = matrices.get(0);
+        MatrixBatch batch = zero(matrices.size(), first.getNumRows(), first.getNumColumns());
+        for (int k = 0; k < matrices.size(); k++) {
+            batch.set(k, matrices.get(k));
+        }
+        return batch;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getNumRows() {
+        return n;
+    }
+
+    public int getNumColumns() {
+        return m;
+    }
+
+    /**
+     * Returns a live view of matrix {@code k}; writes through either side are visible in both.
+     * Every call returns the same view, so {@link #set} can invalidate its cached hash.
+     */
+    public Matrix get(int k) {
+        checkIndex(k);
+        Matrix view = views[k];
+        if (view == null) {
+            view = Matrix.rect(n, m, MatrixLimits.LARGE).wrap(data, k * n * m, m);
+            views[k] = view;
+        }
+        return view;
+    }
+
+    public void set(int k, Matrix matrix) {
+        checkIndex(k);
+        if (matrix.getNumRows() != n || matrix.getNumColumns() != m) {
+            String err = String.format("Batch matrices must be %dx%d. Given: %dx%d", n, m, matrix.getNumRows(), matrix.getNumColumns());
+            throw new IllegalArgumentException(err);
+        }
+        int base = k * n * m;
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(matrix.array(), matrix.rowOffset(i), data, base + i * m, m);
+        }
+        if (views[k] != null) {
+            views[k].markModified();
+        }
+    }
+
+    private void checkIndex(int k) {
+        if (k < 0 || k >= count) {
+            throw new IndexOutOfBoundsException("Batch index out of bounds: " + k);
+        }
+    }
+
+    public MatrixBatch add(MatrixBatch other) {
+        return add(other, ExecutionPolicy.sequential());
+    }
+
+    public MatrixBatch add(MatrixBatch other, ExecutionPolicy policy) {
+        checkSameShape(other, "Batch addition requires same batch size and dimensions");
+        return elementwise(other, policy, false);
+    }
+
+    public MatrixBatch subtract(MatrixBatch other) {
+        return subtract(other, ExecutionPolicy.sequential());
+    }
+
+    public MatrixBatch subtract(MatrixBatch other, ExecutionPolicy policy) {
+        checkSameShape(other, "Batch subtraction requires same batch size and dimensions");
+        return elementwise(other, policy, true);
+    }
+
+    public MatrixBatch dot(MatrixBatch other) {
+        return dot(other, ExecutionPolicy.sequential());
+    }
+
+    public MatrixBatch dot(MatrixBatch other, ExecutionPolicy policy) {
+        if (this.count != other.count) {
+            String err = String.format("Batch multiplication requires same batch size. Given: %d and %d", count, other.count);
+            throw new IllegalArgumentException(err);
+        }
+        if (this.m != other.n) {
+            throw new IllegalArgumentException(
+                    "Matrix multiplication requires columns of A == rows of B"
+            );
+        }
+        int q = other.m;
+        MatrixBatch result = zero(count, n, q);
+        int aSize = n * m;
+        int bSize = m * q;
+        int cSize = n * q;
+        policy.forEachTile(count, 1, (long) aSize * q, (k0, k1, j0, j1) -> {
+            for (int k = k0; k < k1; k++) {
+                DotKernels.multiplyTile(
+                        this.data, k * aSize, m,
+                        other.data, k * bSize, q,
+                        result.data, k * cSize, q,
+                        0, n, 0, q, m);
+            }
+        });
+        return result;
+    }
+
+    private void checkSameShape(MatrixBatch other, String err) {
+        if (this.count != other.count || this.n != other.n || this.m != other.m) {
+            throw new IllegalArgumentException(err);
+        }
+    }
+
+    private MatrixBatch elementwise(MatrixBatch other, ExecutionPolicy policy, boolean subtract) {
+        MatrixBatch result = zero(count, n, m);
+        int size = n * m;
+        policy.forEachTile(count, 1, size, (k0, k1, j0, j1) -> {
+            int from = k0 * size;
+            int length = (k1 - k0) * size;
+            if (subtract) {
+                ElementwiseKernels.subtract(data, from, 0, other.data, from, 0, result.data, from, 0, 0, 1, 0, length);
+            } else {
+                ElementwiseKernels.add(data, from, 0, other.data, from, 0, result.data, from, 0, 0, 1, 0, length);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MatrixBatch[%d x %dx%d]", count, n, m);
+    }
+}
@@ -0,0 +1,203 @@
+package mouse.univ;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lazily built expression over matrices, created with {@link Matrix#expr(Matrix)}.
+ * <p>
+ * Nothing is computed until {@link #evaluate()}: consecutive {@code plus}/{@code minus} steps are
+ * fused into a single tiled pass that writes every element once, consecutive {@code times} steps are
+ * multiplied in the order with the fewest scalar operations, and sub-expressions used more than once
+ * are evaluated once.
+ */
+public final class MatrixExpression {
+
+    static final int FUSED_BLOCK = 2048;
+
+    private sealed interface Node permits Leaf, Sum, Product {
+        int rows();
+
+        int columns();
+    }
+
+    private record Leaf(Matrix matrix) implements Node {
+        public int rows() {
+            return matrix.getNumRows();
+        }
+
+        public int columns() {
+            return matrix.getNumColumns();
+        }
+    }
+
+    private record Sum(List<Node> terms, List<Boolean> negated) implements Node {
+        public int rows() {
+            return terms.get(0).rows();
+        }
+
+        public int columns() {
+            return terms.get(0).columns();
+        }
+    }
+
+    private record Product(List<Node> factors) implements Node {
+        public int rows() {
+            return factors.get(0).rows();
+        }
+
+        public int columns() {
+            return factors.get(factors.size() - 1).columns();
+        }
+    }
+
+    private final Node root;
+
+    private MatrixExpression(Node root) {
+        this.root = root;
+    }
+
+    static MatrixExpression of(Matrix matrix) {
+        return new MatrixExpression(new Leaf(matrix));
+    }
+
+    public int getNumRows() {
+        return root.rows();
+    }
+
+    public int getNumColumns() {
+        return root.columns();
+    }
+
+    public MatrixExpression plus(Matrix other) {
+        return plus(of(other));
+    }
+
+    public MatrixExpression plus(MatrixExpression other) {
+        return combine(other, false, "Matrix addition requires same dimensions");
+    }
+
+    public MatrixExpression minus(Matrix other) {
+        return minus(of(other));
+    }
+
+    public MatrixExpression minus(MatrixExpression other) {
+        return combine(other, true, "Matrix subtraction requires same dimensions");
+    }
+
+    public MatrixExpression times(Matrix other) {
+        return times(of(other));
+    }
+
+    public MatrixExpression times(MatrixExpression other) {
+        if (root.columns() != other.root.rows()) {
+            throw new IllegalArgumentException(
+                    "Matrix multiplication requires columns of A == rows of B"
+            );
+        }
+        List<Node> factors = new ArrayList<>();
+        appendFactors(factors, root);
+        appendFactors(factors, other.root);
+        return new MatrixExpression(new Product(List.copyOf(factors)));
+    }
+
+    public Matrix evaluate() {
+        return evaluate(ExecutionPolicy.sequential());
+    }
+
+    public Matrix evaluate(ExecutionPolicy policy) {
+        Matrix result = evaluate(root, policy, new IdentityHashMap<>());
+        return root instanceof Leaf ? result.copy() : result;
+    }
+
+    private MatrixExpression combine(MatrixExpression other, boolean negate, String err) {
+        if (root.rows() != other.root.rows() || root.columns() != other.root.columns()) {
+            throw new IllegalArgumentException(err);
+        }
+        List<Node> terms = new ArrayList<>();
+        List<Boolean> negated = new ArrayList<>();
+        appendTerms(terms, negated, root, false);
+        appendTerms(terms, negated, other.root, negate);
+        return new MatrixExpression(new Sum(List.copyOf(terms), List.copyOf(negated)));
+    }
+
+    private static void appendTerms(List<Node> terms, List<Boolean> negated, Node node, boolean negate) {
+        if (node instanceof Sum sum) {
+            for (int k = 0; k < sum.terms().size(); k++) {
+                terms.add(sum.terms().get(k));
+                negated.add(sum.negated().get(k) ^ negate);
+            }
+        } else {
+            terms.add(node);
+            negated.add(negate);
+        }
+    }
+
+    private static void appendFactors(List<Node> factors, Node node) {
+        if (node instanceof Product product) {
+            factors.addAll(product.factors());
+        } else {
+            factors.add(node);
+        }
+    }
+
+    private static Matrix evaluate(Node node, ExecutionPolicy policy, Map<Node, Matrix> done) {
+        if (node instanceof Leaf leaf) {
+            return leaf.matrix();
+        }
+        Matrix cached = done.get(node);
+        if (cached != null) {
+            return cached;
+        }
+        Matrix result;
+        if (node instanceof Sum sum) {
+            Matrix[] terms = new Matrix[sum.terms().size()];
+            for (int k = 0; k < terms.length; k++) {
+                terms[k] = evaluate(sum.terms().get(k), policy, done);
+            }
+            result = fusedSum(terms, sum.negated(), policy);
+        } else {
+            Product product = (Product) node;
+            Matrix[] factors = new Matrix[product.factors().size()];
+            for (int k = 0; k < factors.length; k++) {
+                factors[k] = evaluate(product.factors().get(k), policy, done);
+            }
+            result = ChainPlan.optimal(factors).execute(policy);
+        }
+        done.put(node, result);
+        return result;
+    }
+
+    private static Matrix fusedSum(Matrix[] terms, List<Boolean> negated, ExecutionPolicy policy) {
+        int n = terms[0].getNumRows();
+        int m = terms[0].getNumColumns();
+        Matrix result = new Matrix(n, m, new double[MatrixLimits.checkedSize(n, m)]);
+        double[] c = result.array();
+        boolean[] subtract = new boolean[terms.length];
+        for (int k = 0; k < terms.length; k++) {
+            subtract[k] = negated.get(k);
+        }
+        policy.forEachTile(n, m, terms.length, (i0, i1, j0, j1) -> {
+            for (int i = i0; i < i1; i++) {
+                for (int jj = j0; jj < j1; jj += FUSED_BLOCK) {
+                    int jEnd = Math.min(jj + FUSED_BLOCK, j1);
+                    for (int k = 0; k < terms.length; k++) {
+                        Matrix t = terms[k];
+                        if (k == 0 && !subtract[0]) {
+                            System.arraycopy(t.array(), t.rowOffset(i) + jj, c, i * m + jj, jEnd - jj);
+                        } else if (subtract[k]) {
+                            ElementwiseKernels.subtract(c, 0, m, t.array(), t.rowOffset(0), t.rowStride(),
+                                    c, 0, m, i, i + 1, jj, jEnd);
+                        } else {
+                            ElementwiseKernels.add(c, 0, m, t.array(), t.rowOffset(0), t.rowStride(),
+                                    c, 0, m, i, i + 1, jj, jEnd);
+                        }
+                    }
+                }
+            }
+        });
+        return result;
+    }
+}
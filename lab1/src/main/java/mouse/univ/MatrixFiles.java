@@ -0,0 +1,204 @@
+package mouse.univ;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class MatrixFiles {
+
+    static final int MAGIC = 0x5852544D;
+    static final short VERSION = 1;
+    static final byte DTYPE_FLOAT64 = 1;
+    static final byte LAYOUT_ROW_MAJOR = 0;
+    static final byte LAYOUT_COLUMN_MAJOR = 1;
+    static final int HEADER_SIZE = 32;
+    static final int CHUNK_SHIFT = 27;
+    static final int CHUNK_ELEMENTS = 1 << CHUNK_SHIFT;
+
+    private static final int WRITE_BUFFER_ELEMENTS = 1 << 16;
+
+    private MatrixFiles() {
+    }
+
+    record Header(int rows, int columns, byte layout) {
+        long elements() {
+            return (long) rows * columns;
+        }
+    }
+
+    static Header readHeader(FileChannel channel, Path path) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            throw new IOException("File is too short to be a matrix file: " + path);
+        }
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a matrix file (bad magic): " + path);
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported matrix file version " + version + ": " + path);
+        }
+        byte dtype = buffer.get();
+        if (dtype != DTYPE_FLOAT64) {
+            throw new IOException("Unsupported matrix element type " + dtype + ": " + path);
+        }
+        byte layout = buffer.get();
+        if (layout != LAYOUT_ROW_MAJOR && layout != LAYOUT_COLUMN_MAJOR) {
+            throw new IOException("Unsupported matrix layout " + layout + ": " + path);
+        }
+        int rows = buffer.getInt();
+        int columns = buffer.getInt();
+        if (rows <= 0 || columns <= 0) {
+            throw new IOException(String.format("Invalid matrix size %dx%d in %s", rows, columns, path));
+        }
+        Header header = new Header(rows, columns, layout);
+        long expected;
+        try {
+            expected = Math.addExact(HEADER_SIZE, Math.multiplyExact(header.elements(), Double.BYTES));
+        } catch (ArithmeticException e) {
+            throw new IOException(String.format("Matrix size %dx%d in %s is too large", rows, columns, path), e);
+        }
+        if (channel.size() != expected) {
+            String err = String.format("Matrix file %s has %d bytes, expected %d for %dx%d", path, channel.size(), expected, rows, columns);
+            throw new IOException(err);
+        }
+        return header;
+    }
+
+    static DoubleBuffer[] mapData(FileChannel channel, Header header, FileChannel.MapMode mode) throws IOException {
+        long elements = header.elements();
+        int chunks = (int) ((elements + CHUNK_ELEMENTS - 1) >>> CHUNK_SHIFT);
+        DoubleBuffer[] result = new DoubleBuffer[chunks];
+        for (int c = 0; c < chunks; c++) {
+            long first = (long) c << CHUNK_SHIFT;
+            long count = Math.min(CHUNK_ELEMENTS, elements - first);
+            MappedByteBuffer mapped = channel.map(mode, HEADER_SIZE + first * Double.BYTES, count * Double.BYTES);
+            result[c] = mapped.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+        return result;
+    }
+
+    static Matrix read(Path path, MatrixLimits limits) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, path);
+            int rows = header.rows();
+            int columns = header.columns();
+            Matrix.SizedMatrixBuilder builder = Matrix.rect(rows, columns, limits);
+            double[] data = new double[rows * columns];
+            DoubleBuffer[] chunks = mapData(channel, header, FileChannel.MapMode.READ_ONLY);
+            int position = 0;
+            for (DoubleBuffer chunk : chunks) {
+                int count = chunk.remaining();
+                chunk.get(data, position, count);
+                position += count;
+            }
+            if (header.layout() == LAYOUT_COLUMN_MAJOR) {
+                data = transpose(data, columns, rows);
+            }
+            return builder.wrap(data);
+        }
+    }
+
+    static void write(Matrix matrix, Path path) throws IOException {
+        int rows = matrix.getNumRows();
+        int columns = matrix.getNumColumns();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeHeader(channel, rows, columns);
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_ELEMENTS * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            DoubleBuffer doubles = buffer.asDoubleBuffer();
+            double[] data = matrix.array();
+            for (int i = 0; i < rows; i++) {
+                int row = matrix.rowOffset(i);
+                int written = 0;
+                while (written < columns) {
+                    int count = Math.min(columns - written, doubles.remaining());
+                    doubles.put(data, row + written, count);
+                    written += count;
+                    if (!doubles.hasRemaining()) {
+                        flush(channel, buffer, doubles);
+                    }
+                }
+            }
+            flush(channel, buffer, doubles);
+        }
+    }
+
+    /**
+     * Creates a row-major file of the given size with all elements zero. Blocks are then written
+     * in place with {@link #writeBlock}, so the matrix never has to be on the heap as a whole.
+     */
+    static FileChannel create(Path path, int rows, int columns) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            writeHeader(channel, rows, columns);
+            long size = HEADER_SIZE + (long) rows * columns * Double.BYTES;
+            if (size > HEADER_SIZE) {
+                channel.write(ByteBuffer.allocate(1), size - 1);
+            }
+            return channel;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static void writeBlock(FileChannel channel, int columns, long i0, long j0, Matrix block) throws IOException {
+        int width = block.getNumColumns();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(width * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        DoubleBuffer doubles = buffer.asDoubleBuffer();
+        double[] data = block.array();
+        for (int i = 0; i < block.getNumRows(); i++) {
+            doubles.clear();
+            doubles.put(data, block.rowOffset(i), width);
+            buffer.clear();
+            long position = HEADER_SIZE + ((i0 + i) * columns + j0) * Double.BYTES;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+    }
+
+    private static void writeHeader(FileChannel channel, int rows, int columns) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC)
+                .putShort(VERSION)
+                .put(DTYPE_FLOAT64)
+                .put(LAYOUT_ROW_MAJOR)
+                .putInt(rows)
+                .putInt(columns)
+                .position(HEADER_SIZE);
+        header.flip();
+        writeFully(channel, header);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, DoubleBuffer doubles) throws IOException {
+        buffer.position(0).limit(doubles.position() * Double.BYTES);
+        writeFully(channel, buffer);
+        buffer.clear();
+        doubles.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static double[] transpose(double[] data, int rows, int columns) {
+        double[] result = new double[data.length];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                result[j * rows + i] = data[i * columns + j];
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,22 @@
+package mouse.univ;
+
+public class MatrixFormatException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    private final int row;
+    private final int column;
+
+    public MatrixFormatException(String message, int row, int column) {
+        super(String.format("%s (row %d, column %d)", message, row, column));
+        this.row = row;
+        this.column = column;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,171 @@
+package mouse.univ;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+public final class MatrixFormatter {
+
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    static final String ELLIPSIS = "...";
+    static final int MAX_CACHED_CELLS = 1 << 20;
+
+    private static final int SHORTEST = -1;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String SPACES = " ".repeat(64);
+    private static final MatrixFormatter DEFAULT = new MatrixFormatter(SHORTEST, UNLIMITED, UNLIMITED);
+
+    private final int precision;
+    private final int maxRows;
+    private final int maxColumns;
+
+    private MatrixFormatter(int precision, int maxRows, int maxColumns) {
+        this.precision = precision;
+        this.maxRows = maxRows;
+        this.maxColumns = maxColumns;
+    }
+
+    public static MatrixFormatter defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Prints every element with exactly {@code digits} fractional digits, as {@code String.format("%.<digits>f")} would.
+     */
+    public MatrixFormatter withPrecision(int digits) {
+        if (digits < 0) {
+            throw new IllegalArgumentException("Precision cannot be negative. Given: " + digits);
+        }
+        return new MatrixFormatter(digits, maxRows, maxColumns);
+    }
+
+    /**
+     * Prints at most {@code rows} rows and {@code columns} columns; the rest is replaced by {@code ...}.
+     */
+    public MatrixFormatter withTruncation(int rows, int columns) {
+        if (rows <= 0 || columns <= 0) {
+            String err = String.format("Truncation limits must be positive. Given: %dx%d", rows, columns);
+            throw new IllegalArgumentException(err);
+        }
+        return new MatrixFormatter(precision, rows, columns);
+    }
+
+    public String format(Matrix matrix) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(matrix, sb);
+        } catch (IOException e) {
+            throw new IllegalStateException("StringBuilder cannot fail", e);
+        }
+        return sb.toString();
+    }
+
+    public void writeTo(Matrix matrix, WritableByteChannel channel) throws IOException {
+        ChannelWriter writer = new ChannelWriter(channel);
+        writeTo(matrix, writer);
+        writer.flush();
+    }
+
+    public void writeTo(Matrix matrix, Appendable out) throws IOException {
+        int rows = Math.min(matrix.getNumRows(), maxRows);
+        int columns = Math.min(matrix.getNumColumns(), maxColumns);
+        boolean cached = (long) rows * columns <= MAX_CACHED_CELLS;
+        String[] cells = cached ? new String[rows * columns] : null;
+
+        int[] widths = new int[columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                String s = format(matrix, i, j);
+                if (cached) {
+                    cells[i * columns + j] = s;
+                }
+                widths[j] = Math.max(widths[j], s.length());
+            }
+        }
+
+        boolean truncatedColumns = columns < matrix.getNumColumns();
+        for (int i = 0; i < rows; i++) {
+            out.append('[');
+            for (int j = 0; j < columns; j++) {
+                String s = cached ? cells[i * columns + j] : format(matrix, i, j);
+                pad(out, widths[j] - s.length());
+                out.append(s);
+                if (j < columns - 1) {
+                    out.append(' ');
+                }
+            }
+            if (truncatedColumns) {
+                out.append(' ').append(ELLIPSIS);
+            }
+            out.append(']');
+            if (i < matrix.getNumRows() - 1) {
+                out.append('\n');
+            }
+        }
+        if (rows < matrix.getNumRows()) {
+            out.append(ELLIPSIS);
+        }
+    }
+
+    private String format(Matrix matrix, int i, int j) {
+        double value = matrix.array()[matrix.rowOffset(i) + j];
+        if (precision == SHORTEST || !Double.isFinite(value)) {
+            return Double.toString(value);
+        }
+        String s = new BigDecimal(Double.toString(value)).setScale(precision, RoundingMode.HALF_UP).toPlainString();
+        if (Math.copySign(1.0, value) < 0 && s.charAt(0) != '-') {
+            return "-" + s;
+        }
+        return s;
+    }
+
+    private static void pad(Appendable out, int count) throws IOException {
+        while (count > 0) {
+            int chunk = Math.min(count, SPACES.length());
+            out.append(SPACES, 0, chunk);
+            count -= chunk;
+        }
+    }
+
+    private static final class ChannelWriter implements Appendable {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        private ChannelWriter(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            for (int k = start; k < end; k++) {
+                append(csq.charAt(k));
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.put((byte) c);
+            return this;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package mouse.univ;
+
+public final class MatrixLimits {
+
+    public static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+    public static final double MIN_ELEMENT_VALUE = -100_000;
+    public static final double MAX_ELEMENT_VALUE = 100_000;
+
+    public static final MatrixLimits SPEC = new MatrixLimits("spec", 100, 100);
+    public static final MatrixLimits LARGE = new MatrixLimits("large", MAX_ARRAY_LENGTH, MAX_ARRAY_LENGTH);
+
+    private final String name;
+    private final int maxRows;
+    private final int maxColumns;
+    private final long maxElements;
+
+    private MatrixLimits(String name, int maxRows, int maxColumns) {
+        this.name = name;
+        this.maxRows = maxRows;
+        this.maxColumns = maxColumns;
+        this.maxElements = Math.min((long) maxRows * maxColumns, MAX_ARRAY_LENGTH);
+    }
+
+    public static MatrixLimits of(int maxRows, int maxColumns) {
+        if (maxRows <= 0 || maxColumns <= 0) {
+            String err = String.format("Limits must be positive. Given: %dx%d", maxRows, maxColumns);
+            throw new IllegalArgumentException(err);
+        }
+        return new MatrixLimits("custom", maxRows, maxColumns);
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    public int getMaxColumns() {
+        return maxColumns;
+    }
+
+    public long getMaxElements() {
+        return maxElements;
+    }
+
+    void checkRect(int n, int m) {
+        if (n <= 0 || m <= 0) {
+            throw new IllegalArgumentException("Matrix cannot be empty");
+        }
+        if (n > maxRows) {
+            String err = String.format("Number of rows cannot exceed %d. Given: %d", maxRows, n);
+            throw new IllegalArgumentException(err);
+        }
+        if (m > maxColumns) {
+            String err = String.format("Number of columns cannot exceed %d. Given: %d", maxColumns, m);
+            throw new IllegalArgumentException(err);
+        }
+        checkElements(n, m);
+    }
+
+    void checkSquare(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Number of rows or columns cannot be 0 or negative");
+        }
+        if (n > maxRows || n > maxColumns) {
+            String err = String.format("Number of rows and columns cannot exceed %d. Given: %d",
+                    Math.min(maxRows, maxColumns), n);
+            throw new IllegalArgumentException(err);
+        }
+        checkElements(n, n);
+    }
+
+    private void checkElements(int n, int m) {
+        long size = (long) n * m;
+        if (size > maxElements) {
+            String err = String.format("Number of elements cannot exceed %d. Given: %d * %d = %d", maxElements, n, m, size);
+            throw new IllegalArgumentException(err);
+        }
+    }
+
+    static int checkedSize(int n, int m) {
+        long size = (long) n * m;
+        if (size > MAX_ARRAY_LENGTH) {
+            String err = String.format("Result of size %d * %d = %d does not fit into a single array", n, m, size);
+            throw new IllegalArgumentException(err);
+        }
+        return (int) size;
+    }
+
+    @Override
+    public String toString() {
+        return "MatrixLimits[" + name + ", " + maxRows + "x" + maxColumns + "]";
+    }
+}
@@ -0,0 +1,173 @@
+package mouse.univ;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation of matrix operations.
+ * <p>
+ * While enabled (see {@link #enable()} or the {@code mouse.univ.metrics} system property), every
+ * instrumented operation updates lock-free per-operation counters and a log2 latency histogram, and
+ * commits a {@code mouse.univ.MatrixOperation} JDK Flight Recorder event when a recording has it enabled.
+ * While disabled, each operation costs a single volatile read.
+ * Bytes allocated count the result and scratch storage created by the operation; FLOPs are the nominal
+ * {@code 2 * n * p * q} of the classic kernel for products.
+ */
+public final class MatrixMetrics {
+
+    public static final String PROPERTY = "mouse.univ.metrics";
+    public static final int HISTOGRAM_BUCKETS = 64;
+
+    public enum Operation {CONSTRUCT, ADD, SUBTRACT, DOT, POW, GEMV}
+
+    public record OperationStats(Operation operation, long count, long totalNanos, long maxNanos,
+                                 long flops, long bytesAllocated, long[] latencyHistogram) {
+
+        public double meanNanos() {
+            return count == 0 ? 0.0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Upper bound of the histogram bucket holding the given percentile, in nanoseconds.
+         * Bucket {@code b} holds latencies in {@code [2^(b-1), 2^b)}.
+         */
+        public long percentileNanos(double percentile) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("Percentile must be within [0, 100]. Given: " + percentile);
+            }
+            long rank = (long) Math.ceil(percentile / 100 * count);
+            long seen = 0;
+            for (int b = 0; b < latencyHistogram.length; b++) {
+                seen += latencyHistogram[b];
+                if (seen >= rank && seen > 0) {
+                    return b >= 63 ? Long.MAX_VALUE : (1L << b) - 1;
+                }
+            }
+            return 0;
+        }
+    }
+
+    static final class Probe {
+        private final Operation operation;
+        private final long start;
+        private final MatrixOperationEvent event;
+
+        private Probe(Operation operation) {
+            this.operation = operation;
+            MatrixOperationEvent e = new MatrixOperationEvent();
+            if (e.isEnabled()) {
+                e.begin();
+                this.event = e;
+            } else {
+                this.event = null;
+            }
+            this.start = System.nanoTime();
+        }
+
+        void end(int rows, int columns, int inner, long flops, long bytesAllocated) {
+            long nanos = System.nanoTime() - start;
+            COUNTERS.get(operation).record(nanos, flops, bytesAllocated);
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.operation = operation.name();
+                    event.rows = rows;
+                    event.columns = columns;
+                    event.inner = inner;
+                    event.flops = flops;
+                    event.bytesAllocated = bytesAllocated;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder flops = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+        private void record(long elapsed, long flopCount, long allocated) {
+            count.increment();
+            nanos.add(elapsed);
+            maxNanos.accumulate(elapsed);
+            flops.add(flopCount);
+            bytes.add(allocated);
+            histogram.incrementAndGet(Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(elapsed)));
+        }
+
+        private OperationStats snapshot(Operation operation) {
+            long[] buckets = new long[HISTOGRAM_BUCKETS];
+            for (int b = 0; b < HISTOGRAM_BUCKETS; b++) {
+                buckets[b] = histogram.get(b);
+            }
+            return new OperationStats(operation, count.sum(), nanos.sum(), maxNanos.get(),
+                    flops.sum(), bytes.sum(), buckets);
+        }
+
+        private void reset() {
+            count.reset();
+            nanos.reset();
+            maxNanos.reset();
+            flops.reset();
+            bytes.reset();
+            for (int b = 0; b < HISTOGRAM_BUCKETS; b++) {
+                histogram.set(b, 0);
+            }
+        }
+    }
+
+    private static final Map<Operation, Counters> COUNTERS = new EnumMap<>(Operation.class);
+
+    static {
+        for (Operation operation : Operation.values()) {
+            COUNTERS.put(operation, new Counters());
+        }
+    }
+
+    private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+
+    private MatrixMetrics() {
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static OperationStats snapshot(Operation operation) {
+        return COUNTERS.get(operation).snapshot(operation);
+    }
+
+    public static Map<Operation, OperationStats> snapshot() {
+        Map<Operation, OperationStats> result = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            result.put(operation, snapshot(operation));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    public static void reset() {
+        for (Counters counters : COUNTERS.values()) {
+            counters.reset();
+        }
+    }
+
+    static Probe begin(Operation operation) {
+        return enabled ? new Probe(operation) : null;
+    }
+}
@@ -0,0 +1,134 @@
+package mouse.univ;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Memoizes {@code dot} results, keyed by operand content.
+ * <p>
+ * Every entry keeps its own copy of both operands next to the result, and a cached result is served
+ * only when the given operands are element-wise equal to those copies. Nothing depends on object
+ * identity, so writes through shared storage (wrapped arrays, batch views) can never produce a stale
+ * hit, and equal operands built afresh (the "fixed weights times recurring inputs" pattern) still hit.
+ * Results are copied in and out, so callers may freely modify what they get back.
+ * Entries, including their operand copies, are evicted in least-recently-used order once they
+ * exceed the byte budget.
+ * <p>
+ * A lookup hashes both operands and a hit compares and copies them, a few O(n * m) passes in all,
+ * which only pays off against the O(n * p * m) product. Element-wise {@code add} and {@code subtract}
+ * cost a single such pass and are therefore not cached.
+ */
+public final class MatrixOperationCache {
+
+    static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private record Key(int rowsA, int columnsA, int rowsB, int columnsB, int hashA, int hashB) {
+    }
+
+    private static final class Entry {
+        private final Matrix a;
+        private final Matrix b;
+        private final Matrix result;
+        private final long bytes;
+
+        private Entry(Matrix a, Matrix b, Matrix result) {
+            this.a = a.copy();
+            this.b = b.copy();
+            this.result = result.copy();
+            this.bytes = entryBytes(a, b, result);
+        }
+
+        private boolean matches(Matrix a, Matrix b) {
+            return this.a.equals(a) && this.b.equals(b);
+        }
+    }
+
+    public record Stats(long hits, long misses, long evictions, int entries, long bytes) {
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private MatrixOperationCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public static MatrixOperationCache withMaxBytes(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive. Given: " + maxBytes);
+        }
+        return new MatrixOperationCache(maxBytes);
+    }
+
+    public Matrix dot(Matrix a, Matrix b) {
+        return dot(a, b, ExecutionPolicy.sequential());
+    }
+
+    public Matrix dot(Matrix a, Matrix b, ExecutionPolicy policy) {
+        Key key = new Key(a.getNumRows(), a.getNumColumns(), b.getNumRows(), b.getNumColumns(),
+                a.contentHash(), b.contentHash());
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.matches(a, b)) {
+                hits++;
+                return entry.result.copy();
+            }
+            misses++;
+        }
+        Matrix result = a.dot(b, policy);
+        if (entryBytes(a, b, result) <= maxBytes) {
+            put(key, new Entry(a, b, result));
+        }
+        return result;
+    }
+
+    private synchronized void put(Key key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            bytes -= previous.bytes;
+        }
+        bytes += entry.bytes;
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes) {
+            bytes -= eldest.next().getValue().bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Drops all entries and resets the hit, miss and eviction counters.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, entries.size(), bytes);
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    private static long entryBytes(Matrix a, Matrix b, Matrix result) {
+        return sizeOf(a) + sizeOf(b) + sizeOf(result) + ENTRY_OVERHEAD_BYTES;
+    }
+
+    private static long sizeOf(Matrix matrix) {
+        return (long) matrix.getNumRows() * matrix.getNumColumns() * Double.BYTES;
+    }
+}
@@ -0,0 +1,35 @@
+package mouse.univ;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("mouse.univ.MatrixOperation")
+@Label("Matrix Operation")
+@Category("Matrix")
+@Description("A matrix operation recorded while MatrixMetrics is enabled")
+@StackTrace(false)
+final class MatrixOperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Columns")
+    int columns;
+
+    @Label("Inner Dimension")
+    int inner;
+
+    @Label("Floating-Point Operations")
+    long flops;
+
+    @Label("Bytes Allocated")
+    @DataAmount
+    long bytesAllocated;
+}
@@ -0,0 +1,257 @@
+package mouse.univ;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+final class MatrixTextReader {
+
+    static final int BUFFER_SIZE = 1 << 16;
+    static final int MAX_TOKEN_LENGTH = 512;
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final ReadableByteChannel channel;
+    private final MatrixLimits limits;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final byte[] token = new byte[MAX_TOKEN_LENGTH];
+    private int tokenLength;
+
+    private int rows;
+    private int columns;
+    private double[] data;
+    private int row;
+    private int column;
+    private boolean expectValue;
+
+    private MatrixTextReader(ReadableByteChannel channel, int rows, int columns, MatrixLimits limits) {
+        this.channel = channel;
+        this.rows = rows;
+        this.columns = columns;
+        this.limits = limits;
+    }
+
+    static Matrix read(ReadableByteChannel channel, int rows, int columns) throws IOException {
+        MatrixTextReader reader = new MatrixTextReader(channel, rows, columns, MatrixLimits.LARGE);
+        reader.data = new double[rows * columns];
+        return reader.parse();
+    }
+
+    static Matrix read(ReadableByteChannel channel, MatrixLimits limits) throws IOException {
+        MatrixTextReader reader = new MatrixTextReader(channel, -1, -1, limits);
+        reader.data = new double[(int) Math.min(INITIAL_CAPACITY, limits.getMaxElements())];
+        return reader.parse();
+    }
+
+    private Matrix parse() throws IOException {
+        byte[] bytes = buffer.array();
+        while (channel.read(buffer) >= 0) {
+            int end = buffer.position();
+            int p = 0;
+            while (p < end) {
+                byte b = bytes[p];
+                if (!isDelimiter(b)) {
+                    int start = p;
+                    while (p < end && !isDelimiter(bytes[p])) {
+                        p++;
+                    }
+                    if (p == end) {
+                        appendToken(bytes, start, p - start);
+                    } else if (tokenLength > 0) {
+                        appendToken(bytes, start, p - start);
+                        endToken();
+                    } else {
+                        accept(bytes, start, p - start);
+                    }
+                    continue;
+                }
+                endToken();
+                if (b == '\n') {
+                    endLine();
+                } else if (b == ',' || b == ';') {
+                    if (expectValue || column == 0) {
+                        throw new MatrixFormatException("Missing value", row, column);
+                    }
+                    expectValue = true;
+                }
+                p++;
+            }
+            buffer.clear();
+        }
+        endToken();
+        endLine();
+        return finish();
+    }
+
+    private void appendToken(byte[] bytes, int from, int length) {
+        if (tokenLength + length > MAX_TOKEN_LENGTH) {
+            throw new MatrixFormatException("Value is longer than " + MAX_TOKEN_LENGTH + " characters", row, column);
+        }
+        System.arraycopy(bytes, from, token, tokenLength, length);
+        tokenLength += length;
+    }
+
+    private void endToken() {
+        if (tokenLength > 0) {
+            accept(token, 0, tokenLength);
+            tokenLength = 0;
+        }
+    }
+
+    private void accept(byte[] src, int from, int length) {
+        if (rows >= 0 && row >= rows) {
+            throw new MatrixFormatException("Input has more than " + rows + " rows", row, column);
+        }
+        if (row >= limits.getMaxRows()) {
+            throw new MatrixFormatException("Number of rows cannot exceed " + limits.getMaxRows(), row, column);
+        }
+        int maxColumns = columns >= 0 ? columns : limits.getMaxColumns();
+        if (column >= maxColumns) {
+            throw new MatrixFormatException("Row has more than " + maxColumns + " values", row, column);
+        }
+        double value = parseNumber(src, from, from + length);
+        if (value < MatrixLimits.MIN_ELEMENT_VALUE || value > MatrixLimits.MAX_ELEMENT_VALUE) {
+            String err = String.format("Value %s is out of range [%d, %d]", text(src, from, from + length),
+                    (long) MatrixLimits.MIN_ELEMENT_VALUE, (long) MatrixLimits.MAX_ELEMENT_VALUE);
+            throw new MatrixFormatException(err, row, column);
+        }
+        long k = columns >= 0 ? (long) row * columns + column : column;
+        if (k >= data.length) {
+            grow(k + 1);
+        }
+        data[(int) k] = value;
+        column++;
+        expectValue = false;
+    }
+
+    private void endLine() {
+        if (expectValue) {
+            throw new MatrixFormatException("Missing value", row, column);
+        }
+        if (column == 0) {
+            return;
+        }
+        if (columns < 0) {
+            columns = column;
+        } else if (column != columns) {
+            String err = String.format("Row has %d values, expected %d", column, columns);
+            throw new MatrixFormatException(err, row, column);
+        }
+        row++;
+        column = 0;
+    }
+
+    private Matrix finish() {
+        if (row == 0) {
+            throw new MatrixFormatException("Input contains no values", 0, 0);
+        }
+        if (rows >= 0 && row != rows) {
+            String err = String.format("Input has %d rows, expected %d", row, rows);
+            throw new MatrixFormatException(err, row, 0);
+        }
+        limits.checkRect(row, columns);
+        int size = row * columns;
+        return new Matrix(row, columns, data.length == size ? data : Arrays.copyOf(data, size));
+    }
+
+    private void grow(long required) {
+        if (required > limits.getMaxElements()) {
+            String err = "Number of elements cannot exceed " + limits.getMaxElements();
+            throw new MatrixFormatException(err, row, column);
+        }
+        long capacity = Math.max(required, Math.min((long) data.length * 2, limits.getMaxElements()));
+        data = Arrays.copyOf(data, (int) capacity);
+    }
+
+    private double parseNumber(byte[] src, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (src[from] == '-' || src[from] == '+') {
+            negative = src[from] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int significant = 0;
+        int exponent = 0;
+        boolean digits = false;
+        boolean truncated = false;
+        for (; i < to && isDigit(src[i]); i++) {
+            if (significant < 18) {
+                mantissa = mantissa * 10 + (src[i] - '0');
+                significant += mantissa == 0 ? 0 : 1;
+            } else {
+                exponent++;
+                truncated = true;
+            }
+            digits = true;
+        }
+        if (i < to && src[i] == '.') {
+            for (i++; i < to && isDigit(src[i]); i++) {
+                if (significant < 18) {
+                    mantissa = mantissa * 10 + (src[i] - '0');
+                    significant += mantissa == 0 ? 0 : 1;
+                    exponent--;
+                } else {
+                    truncated = true;
+                }
+                digits = true;
+            }
+        }
+        if (!digits) {
+            throw malformed(src, from, to);
+        }
+        if (i < to && (src[i] == 'e' || src[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < to && (src[i] == '-' || src[i] == '+')) {
+                negativeExponent = src[i] == '-';
+                i++;
+            }
+            int start = i;
+            int e = 0;
+            for (; i < to && isDigit(src[i]); i++) {
+                e = Math.min(e * 10 + (src[i] - '0'), 100_000);
+            }
+            if (i == start) {
+                throw malformed(src, from, to);
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+        if (i != to) {
+            throw malformed(src, from, to);
+        }
+        if (truncated || mantissa > MAX_EXACT_MANTISSA || exponent < -22 || exponent > 22) {
+            return Double.parseDouble(text(src, from, to));
+        }
+        double value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+        return negative ? -value : value;
+    }
+
+    private MatrixFormatException malformed(byte[] src, int from, int to) {
+        return new MatrixFormatException("Malformed number '" + text(src, from, to) + "'", row, column);
+    }
+
+    private static String text(byte[] src, int from, int to) {
+        return new String(src, from, to - from, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Only ASCII whitespace and the separators delimit values; every other byte, including
+     * control characters and the (negative) bytes of non-ASCII characters, is part of a value
+     * and makes it malformed.
+     */
+    private static boolean isDelimiter(byte b) {
+        return b == ' ' || b == '\n' || b == ',' || b == ';' || b == '\t' || b == '\r';
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
@@ -0,0 +1,18 @@
+package mouse.univ;
+
+public interface NumericMatrix {
+
+    int getNumRows();
+
+    int getNumColumns();
+
+    double at(int i, int j);
+
+    NumericMatrix add(NumericMatrix other);
+
+    NumericMatrix subtract(NumericMatrix other);
+
+    NumericMatrix dot(NumericMatrix other);
+
+    Matrix toDense();
+}
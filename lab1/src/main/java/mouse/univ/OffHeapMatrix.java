@@ -0,0 +1,304 @@
+package mouse.univ;
+
+import jdk.incubator.foreign.MemoryAccess;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+
+import java.util.Arrays;
+
+public final class OffHeapMatrix implements NumericMatrix, AutoCloseable {
+
+    private static final int PANEL_ELEMENTS = 1 << 20;
+
+    private final int n;
+    private final int m;
+    private final MemorySegment segment;
+    private final ResourceScope scope;
+    private final boolean ownsScope;
+
+    private OffHeapMatrix(int n, int m, MemorySegment segment, ResourceScope scope, boolean ownsScope) {
+        this.n = n;
+        this.m = m;
+        this.segment = segment;
+        this.scope = scope;
+        this.ownsScope = ownsScope;
+    }
+
+    public static OffHeapMatrix allocate(int n, int m) {
+        checkSize(n, m);
+        ResourceScope scope = ResourceScope.newSharedScope();
+        return new OffHeapMatrix(n, m, allocateSegment(n, m, scope), scope, true);
+    }
+
+    public static OffHeapMatrix allocate(int n, int m, ResourceScope scope) {
+        checkSize(n, m);
+        return new OffHeapMatrix(n, m, allocateSegment(n, m, scope), scope, false);
+    }
+
+    public static OffHeapMatrix copyOf(NumericMatrix source) {
+        OffHeapMatrix result = allocate(source.getNumRows(), source.getNumColumns());
+        double[] row = new double[source.getNumColumns()];
+        for (int i = 0; i < result.n; i++) {
+            copyRow(source, i, row);
+            result.writeRow(i, row);
+        }
+        return result;
+    }
+
+    private static void checkSize(int n, int m) {
+        if (n <= 0 || m <= 0) {
+            throw new IllegalArgumentException("Matrix cannot be empty");
+        }
+    }
+
+    private static MemorySegment allocateSegment(int n, int m, ResourceScope scope) {
+        return MemorySegment.allocateNative((long) n * m * Double.BYTES, Double.BYTES, scope);
+    }
+
+    @Override
+    public int getNumRows() {
+        return n;
+    }
+
+    @Override
+    public int getNumColumns() {
+        return m;
+    }
+
+    public long byteSize() {
+        return segment.byteSize();
+    }
+
+    public boolean isAlive() {
+        return scope.isAlive();
+    }
+
+    /**
+     * Frees the memory of a matrix that owns its scope. For a matrix allocated in a caller's
+     * {@link ResourceScope} this does nothing; the memory is freed when that scope is closed.
+     */
+    @Override
+    public void close() {
+        if (ownsScope) {
+            scope.close();
+        }
+    }
+
+    @Override
+    public double at(int i, int j) {
+        checkIndex(i, j);
+        return MemoryAccess.getDoubleAtIndex(segment, (long) i * m + j);
+    }
+
+    public double set(int i, int j, double d) {
+        checkIndex(i, j);
+        long k = (long) i * m + j;
+        double prev = MemoryAccess.getDoubleAtIndex(segment, k);
+        MemoryAccess.setDoubleAtIndex(segment, k, d);
+        return prev;
+    }
+
+    private void checkIndex(int i, int j) {
+        if (i < 0 || i >= n) {
+            throw new IllegalArgumentException("Index " + i + " out of bounds of number of rows " + n);
+        }
+        if (j < 0 || j >= m) {
+            throw new IllegalArgumentException("Index " + j + " out of bounds of number of columns " + m);
+        }
+    }
+
+    public double[] copyRowInto(int i, double[] target) {
+        if (i < 0 || i >= n) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: " + i);
+        }
+        readRows(i, 1, target);
+        return target;
+    }
+
+    private void readRows(int firstRow, int rows, double[] target) {
+        long bytes = (long) rows * m * Double.BYTES;
+        MemorySegment.ofArray(target).asSlice(0, bytes)
+                .copyFrom(segment.asSlice((long) firstRow * m * Double.BYTES, bytes));
+    }
+
+    private void writeRow(int i, double[] source) {
+        long bytes = (long) m * Double.BYTES;
+        segment.asSlice((long) i * m * Double.BYTES, bytes)
+                .copyFrom(MemorySegment.ofArray(source).asSlice(0, bytes));
+    }
+
+    static void copyRow(NumericMatrix source, int i, double[] target) {
+        if (source instanceof Matrix dense) {
+            dense.rowView(i).copyInto(target);
+        } else if (source instanceof OffHeapMatrix off) {
+            off.copyRowInto(i, target);
+        } else if (source instanceof MappedMatrix mapped) {
+            mapped.copyRowInto(i, target);
+        } else {
+            for (int j = 0; j < source.getNumColumns(); j++) {
+                target[j] = source.at(i, j);
+            }
+        }
+    }
+
+    @Override
+    public Matrix toDense() {
+        double[] data = new double[MatrixLimits.checkedSize(n, m)];
+        readRows(0, n, data);
+        return new Matrix(n, m, data);
+    }
+
+    /**
+     * Results of {@link #add}, {@link #subtract} and {@link #dot} live in the same scope as this
+     * matrix when it was allocated in a caller's {@link ResourceScope}; otherwise each result owns
+     * a new scope and must be closed. The overloads taking a scope place the result there.
+     */
+    @Override
+    public OffHeapMatrix add(NumericMatrix other) {
+        return elementwise(other, resultScope(), false);
+    }
+
+    public OffHeapMatrix add(NumericMatrix other, ResourceScope resultScope) {
+        return elementwise(other, checkScope(resultScope), false);
+    }
+
+    @Override
+    public OffHeapMatrix subtract(NumericMatrix other) {
+        return elementwise(other, resultScope(), true);
+    }
+
+    public OffHeapMatrix subtract(NumericMatrix other, ResourceScope resultScope) {
+        return elementwise(other, checkScope(resultScope), true);
+    }
+
+    private OffHeapMatrix elementwise(NumericMatrix other, ResourceScope resultScope, boolean subtract) {
+        checkSameDimensions(other, subtract
+                ? "Matrix subtraction requires same dimensions"
+                : "Matrix addition requires same dimensions");
+        OffHeapMatrix result = allocateIn(n, m, resultScope);
+        elementwise(this, other, result, subtract);
+        return result;
+    }
+
+    @Override
+    public OffHeapMatrix dot(NumericMatrix other) {
+        return multiply(other, resultScope());
+    }
+
+    public OffHeapMatrix dot(NumericMatrix other, ResourceScope resultScope) {
+        return multiply(other, checkScope(resultScope));
+    }
+
+    private OffHeapMatrix multiply(NumericMatrix other, ResourceScope resultScope) {
+        checkMultipliable(this, other);
+        OffHeapMatrix result = allocateIn(n, other.getNumColumns(), resultScope);
+        multiply(this, other, result);
+        return result;
+    }
+
+    private static ResourceScope checkScope(ResourceScope scope) {
+        if (scope == null) {
+            throw new IllegalArgumentException("Resource scope cannot be null");
+        }
+        return scope;
+    }
+
+    private ResourceScope resultScope() {
+        return ownsScope ? null : scope;
+    }
+
+    private static OffHeapMatrix allocateIn(int n, int m, ResourceScope scope) {
+        return scope == null ? allocate(n, m) : allocate(n, m, scope);
+    }
+
+    static Matrix elementwise(Matrix dense, OffHeapMatrix off, boolean subtract) {
+        if (dense.getNumRows() != off.n || dense.getNumColumns() != off.m) {
+            throw new IllegalArgumentException(subtract
+                    ? "Matrix subtraction requires same dimensions"
+                    : "Matrix addition requires same dimensions");
+        }
+        Matrix result = Matrix.rect(off.n, off.m, MatrixLimits.LARGE).zero();
+        elementwise(dense, off, result, subtract);
+        return result;
+    }
+
+    static Matrix multiply(Matrix dense, OffHeapMatrix off) {
+        checkMultipliable(dense, off);
+        Matrix result = Matrix.rect(dense.getNumRows(), off.m, MatrixLimits.LARGE).zero();
+        multiply(dense, off, result);
+        return result;
+    }
+
+    private void checkSameDimensions(NumericMatrix other, String err) {
+        if (other.getNumRows() != n || other.getNumColumns() != m) {
+            throw new IllegalArgumentException(err);
+        }
+    }
+
+    private static void checkMultipliable(NumericMatrix a, NumericMatrix b) {
+        if (a.getNumColumns() != b.getNumRows()) {
+            throw new IllegalArgumentException(
+                    "Matrix multiplication requires columns of A == rows of B"
+            );
+        }
+    }
+
+    private static void elementwise(NumericMatrix a, NumericMatrix b, NumericMatrix target, boolean subtract) {
+        int cols = a.getNumColumns();
+        double[] aRow = new double[cols];
+        double[] bRow = new double[cols];
+        double[] cRow = new double[cols];
+        for (int i = 0; i < a.getNumRows(); i++) {
+            copyRow(a, i, aRow);
+            copyRow(b, i, bRow);
+            if (subtract) {
+                ElementwiseKernels.subtract(aRow, 0, 0, bRow, 0, 0, cRow, 0, 0, 0, 1, 0, cols);
+            } else {
+                ElementwiseKernels.add(aRow, 0, 0, bRow, 0, 0, cRow, 0, 0, 0, 1, 0, cols);
+            }
+            storeRow(target, i, cRow);
+        }
+    }
+
+    private static void multiply(NumericMatrix a, NumericMatrix b, NumericMatrix target) {
+        int rows = a.getNumRows();
+        int p = a.getNumColumns();
+        int q = b.getNumColumns();
+        int panelRows = Math.max(1, Math.min(p, PANEL_ELEMENTS / q));
+        double[] panel = new double[panelRows * q];
+        double[] aRow = new double[p];
+        double[] cRow = new double[q];
+        double[] bRow = new double[q];
+        for (int k0 = 0; k0 < p; k0 += panelRows) {
+            int k1 = Math.min(p, k0 + panelRows);
+            for (int k = k0; k < k1; k++) {
+                copyRow(b, k, bRow);
+                System.arraycopy(bRow, 0, panel, (k - k0) * q, q);
+            }
+            for (int i = 0; i < rows; i++) {
+                copyRow(a, i, aRow);
+                if (k0 == 0) {
+                    Arrays.fill(cRow, 0.0);
+                } else {
+                    copyRow(target, i, cRow);
+                }
+                DotKernels.multiplyIkj(aRow, k0, p, panel, 0, q, cRow, 0, q, 0, 1, 0, q, k1 - k0);
+                storeRow(target, i, cRow);
+            }
+        }
+    }
+
+    private static void storeRow(NumericMatrix target, int i, double[] row) {
+        if (target instanceof OffHeapMatrix off) {
+            off.writeRow(i, row);
+        } else {
+            Matrix dense = (Matrix) target;
+            System.arraycopy(row, 0, dense.array(), dense.rowOffset(i), dense.getNumColumns());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OffHeapMatrix[%dx%d, %s]", n, m, scope.isAlive() ? "alive" : "closed");
+    }
+}
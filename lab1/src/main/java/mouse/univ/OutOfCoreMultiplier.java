@@ -0,0 +1,317 @@
+package mouse.univ;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Multiplies {@link TiledMatrix} operands that do not fit in memory.
+ * <p>
+ * Output tiles are produced one at a time as {@code C[i][j] = sum_k A[i][k] * B[k][j]}, with
+ * {@link Matrix#dot} as the per-tile kernel. A reader thread prefetches tile pairs while the
+ * calling thread multiplies, and a writer thread spills each finished output tile to disk while
+ * the next one is accumulated. Pairs with a missing (all-zero) tile are skipped without any I/O.
+ * <p>
+ * The memory budget bounds the tiles held at once: the accumulator, a scratch product, the
+ * output tile being written, and as many A/B pairs (loading, queued or in use) as the rest of
+ * the budget allows. At least {@link #MIN_BUDGET_TILES} tiles are needed, which leaves room
+ * for one pair being multiplied while the next is read.
+ */
+public final class OutOfCoreMultiplier {
+
+    public static final int MIN_BUDGET_TILES = 7;
+
+    private static final int FIXED_TILES = 3;
+
+    private final long memoryBudget;
+    private final ExecutionPolicy policy;
+
+    private OutOfCoreMultiplier(long memoryBudget, ExecutionPolicy policy) {
+        this.memoryBudget = memoryBudget;
+        this.policy = policy;
+    }
+
+    public static OutOfCoreMultiplier withMemoryBudget(long bytes) {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive. Given: " + bytes);
+        }
+        return new OutOfCoreMultiplier(bytes, ExecutionPolicy.sequential());
+    }
+
+    /**
+     * Policy for the per-tile {@link Matrix#dot}; I/O always runs on its own two threads.
+     */
+    public OutOfCoreMultiplier withPolicy(ExecutionPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Execution policy cannot be null");
+        }
+        return new OutOfCoreMultiplier(memoryBudget, policy);
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public ExecutionPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Number of A/B tile pairs that may be in flight for the given tile size, or 0 if the budget
+     * cannot hold {@link #MIN_BUDGET_TILES} tiles.
+     */
+    public int pairsInFlight(int tileSize) {
+        long tiles = memoryBudget / ((long) tileSize * tileSize * Double.BYTES);
+        if (tiles < MIN_BUDGET_TILES) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (tiles - FIXED_TILES) / 2);
+    }
+
+    public record Result(TiledMatrix product, Stats stats) {
+    }
+
+    /**
+     * Counters of one multiplication. {@code stallNanos} is the time the multiplying thread spent
+     * waiting for a tile pair or for the previous output tile to be written; I/O that finished
+     * while it was busy multiplying is hidden.
+     */
+    public record Stats(long tilesRead, long pairsSkipped, long tilesWritten,
+                        long bytesRead, long bytesWritten,
+                        long readNanos, long writeNanos, long computeNanos, long stallNanos,
+                        long wallNanos, int pairsInFlight) {
+
+        /**
+         * Fraction of I/O time overlapped with computation, from 0 (fully serialized) to 1.
+         */
+        public double overlap() {
+            long io = readNanos + writeNanos;
+            if (io == 0) {
+                return 1.0;
+            }
+            return Math.max(0.0, Math.min(1.0, 1.0 - (double) stallNanos / io));
+        }
+    }
+
+    /**
+     * Computes {@code a * b} into a new tiled matrix under {@code directory}. Both operands must use
+     * the same tile size, which is also used for the product.
+     */
+    public Result multiply(TiledMatrix a, TiledMatrix b, Path directory) throws IOException {
+        if (a.getNumColumns() != b.getNumRows()) {
+            throw new IllegalArgumentException(
+                    "Matrix multiplication requires columns of A == rows of B"
+            );
+        }
+        if (a.getTileSize() != b.getTileSize()) {
+            String err = String.format("Tiled operands must use the same tile size. Given: %d and %d", a.getTileSize(), b.getTileSize());
+            throw new IllegalArgumentException(err);
+        }
+        int pairs = pairsInFlight(a.getTileSize());
+        if (pairs == 0) {
+            String err = String.format("Memory budget of %d bytes cannot hold %d tiles of %dx%d",
+                    memoryBudget, MIN_BUDGET_TILES, a.getTileSize(), a.getTileSize());
+            throw new IllegalArgumentException(err);
+        }
+        checkOutputDirectory(directory, a);
+        checkOutputDirectory(directory, b);
+        TiledMatrix c = TiledMatrix.create(directory, a.getNumRows(), b.getNumColumns(), a.getTileSize());
+        return new Run(a, b, c, pairs).execute();
+    }
+
+    /**
+     * Creating the product clears its directory, so it must not be an operand's directory,
+     * also when reached through a different path (relative, symbolic link).
+     */
+    private static void checkOutputDirectory(Path directory, TiledMatrix operand) throws IOException {
+        Path output = Files.exists(directory) ? directory.toRealPath() : directory.toAbsolutePath().normalize();
+        if (output.equals(operand.getDirectory().toRealPath())) {
+            throw new IllegalArgumentException("Output directory must differ from the directories of the operands. Given: " + directory);
+        }
+    }
+
+    private sealed interface Step permits Pair, TileDone, Failed {
+    }
+
+    private record Pair(Matrix a, Matrix b) implements Step {
+    }
+
+    private record TileDone(int ti, int tj) implements Step {
+    }
+
+    private record Failed(Exception cause) implements Step {
+    }
+
+    private final class Run {
+        private final TiledMatrix a;
+        private final TiledMatrix b;
+        private final TiledMatrix c;
+        private final int pairs;
+        private final Semaphore permits;
+        private final BlockingQueue<Step> queue = new LinkedBlockingQueue<>();
+        private final AtomicLong tilesRead = new AtomicLong();
+        private final AtomicLong pairsSkipped = new AtomicLong();
+        private final AtomicLong tilesWritten = new AtomicLong();
+        private final AtomicLong bytesRead = new AtomicLong();
+        private final AtomicLong bytesWritten = new AtomicLong();
+        private final AtomicLong readNanos = new AtomicLong();
+        private final AtomicLong writeNanos = new AtomicLong();
+        private long computeNanos;
+        private long stallNanos;
+
+        Run(TiledMatrix a, TiledMatrix b, TiledMatrix c, int pairs) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.pairs = pairs;
+            this.permits = new Semaphore(pairs);
+        }
+
+        Result execute() throws IOException {
+            long start = System.nanoTime();
+            ExecutorService reader = Executors.newSingleThreadExecutor(r -> daemon(r, "tile-reader"));
+            ExecutorService writer = Executors.newSingleThreadExecutor(r -> daemon(r, "tile-writer"));
+            try {
+                reader.submit(this::load);
+                multiplyAll(writer);
+            } finally {
+                reader.shutdownNow();
+                writer.shutdownNow();
+            }
+            Stats stats = new Stats(tilesRead.get(), pairsSkipped.get(), tilesWritten.get(),
+                    bytesRead.get(), bytesWritten.get(), readNanos.get(), writeNanos.get(),
+                    computeNanos, stallNanos, System.nanoTime() - start, pairs);
+            return new Result(c, stats);
+        }
+
+        private static Thread daemon(Runnable r, String name) {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        }
+
+        private void load() {
+            try {
+                for (int ti = 0; ti < c.getTileRows(); ti++) {
+                    for (int tj = 0; tj < c.getTileColumns(); tj++) {
+                        for (int tk = 0; tk < a.getTileColumns(); tk++) {
+                            if (!a.hasTile(ti, tk) || !b.hasTile(tk, tj)) {
+                                pairsSkipped.incrementAndGet();
+                                continue;
+                            }
+                            permits.acquire();
+                            long t0 = System.nanoTime();
+                            Matrix left = a.readTile(ti, tk);
+                            Matrix right = b.readTile(tk, tj);
+                            readNanos.addAndGet(System.nanoTime() - t0);
+                            tilesRead.addAndGet(2);
+                            bytesRead.addAndGet(bytes(left) + bytes(right));
+                            queue.add(new Pair(left, right));
+                        }
+                        queue.add(new TileDone(ti, tj));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                queue.add(new Failed(e));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void multiplyAll(ExecutorService writer) throws IOException {
+            int ts = c.getTileSize();
+            double[] scratch = new double[ts * ts];
+            Future<?> pendingWrite = null;
+            Matrix acc = null;
+            int done = 0;
+            int total = c.getTileRows() * c.getTileColumns();
+            while (done < total) {
+                Step step = take();
+                if (step instanceof Failed failed) {
+                    if (failed.cause() instanceof IOException io) {
+                        throw io;
+                    }
+                    throw (RuntimeException) failed.cause();
+                }
+                if (step instanceof Pair pair) {
+                    long t0 = System.nanoTime();
+                    if (acc == null) {
+                        acc = pair.a().dot(pair.b(), policy);
+                    } else {
+                        Matrix product = Matrix.rect(acc.getNumRows(), acc.getNumColumns(), MatrixLimits.LARGE).wrap(scratch);
+                        pair.a().dot(pair.b(), product, policy);
+                        acc.add(product, acc);
+                    }
+                    computeNanos += System.nanoTime() - t0;
+                    permits.release();
+                    continue;
+                }
+                TileDone tile = (TileDone) step;
+                done++;
+                if (acc == null) {
+                    continue;
+                }
+                awaitWrite(pendingWrite);
+                Matrix finished = acc;
+                acc = null;
+                pendingWrite = writer.submit(() -> {
+                    long t0 = System.nanoTime();
+                    try {
+                        c.writeTile(tile.ti(), tile.tj(), finished);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    writeNanos.addAndGet(System.nanoTime() - t0);
+                    tilesWritten.incrementAndGet();
+                    bytesWritten.addAndGet(bytes(finished));
+                });
+            }
+            awaitWrite(pendingWrite);
+        }
+
+        private Step take() throws IOException {
+            long t0 = System.nanoTime();
+            try {
+                return queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for tiles", e);
+            } finally {
+                stallNanos += System.nanoTime() - t0;
+            }
+        }
+
+        private void awaitWrite(Future<?> pendingWrite) throws IOException {
+            if (pendingWrite == null) {
+                return;
+            }
+            long t0 = System.nanoTime();
+            try {
+                pendingWrite.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while writing tiles", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof UncheckedIOException io) {
+                    throw io.getCause();
+                }
+                throw new IllegalStateException("Tile writer failed", e.getCause());
+            } finally {
+                stallNanos += System.nanoTime() - t0;
+            }
+        }
+
+        private static long bytes(Matrix tile) {
+            return (long) tile.getNumRows() * tile.getNumColumns() * Double.BYTES;
+        }
+    }
+}
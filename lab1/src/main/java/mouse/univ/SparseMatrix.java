@@ -0,0 +1,433 @@
+package mouse.univ;
+
+import java.util.Arrays;
+
+public final class SparseMatrix implements NumericMatrix {
+    private final int n;
+    private final int m;
+    private final int[] rowPtr;
+    private final int[] colIdx;
+    private final double[] values;
+    private volatile SparseMatrix transposed;
+
+    private SparseMatrix(int n, int m, int[] rowPtr, int[] colIdx, double[] values) {
+        this.n = n;
+        this.m = m;
+        this.rowPtr = rowPtr;
+        this.colIdx = colIdx;
+        this.values = values;
+    }
+
+    public static Builder builder(int n, int m) {
+        if (n <= 0 || m <= 0) {
+            throw new IllegalArgumentException("Matrix cannot be empty");
+        }
+        return new Builder(n, m);
+    }
+
+    public static SparseMatrix fromDense(Matrix dense) {
+        int n = dense.getNumRows();
+        int m = dense.getNumColumns();
+        double[] data = dense.array();
+        int[] rowPtr = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            int row = dense.rowOffset(i);
+            int count = 0;
+            for (int j = 0; j < m; j++) {
+                if (data[row + j] != 0.0) {
+                    count++;
+                }
+            }
+            rowPtr[i + 1] = rowPtr[i] + count;
+        }
+        int[] colIdx = new int[rowPtr[n]];
+        double[] values = new double[rowPtr[n]];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            int row = dense.rowOffset(i);
+            for (int j = 0; j < m; j++) {
+                double v = data[row + j];
+                if (v != 0.0) {
+                    colIdx[k] = j;
+                    values[k] = v;
+                    k++;
+                }
+            }
+        }
+        return new SparseMatrix(n, m, rowPtr, colIdx, values);
+    }
+
+    public static class Builder {
+        private final int n;
+        private final int m;
+        private int[] rows = new int[16];
+        private int[] cols = new int[16];
+        private double[] vals = new double[16];
+        private int size;
+
+        private Builder(int n, int m) {
+            this.n = n;
+            this.m = m;
+        }
+
+        public Builder set(int i, int j, double value) {
+            if (i < 0 || i >= n) {
+                throw new IllegalArgumentException("Index " + i + " out of bounds of number of rows " + n);
+            }
+            if (j < 0 || j >= m) {
+                throw new IllegalArgumentException("Index " + j + " out of bounds of number of columns " + m);
+            }
+            if (size == rows.length) {
+                int capacity = Math.min(MatrixLimits.MAX_ARRAY_LENGTH, size * 2);
+                if (capacity == size) {
+                    throw new IllegalStateException("Too many entries for a sparse matrix: " + size);
+                }
+                rows = Arrays.copyOf(rows, capacity);
+                cols = Arrays.copyOf(cols, capacity);
+                vals = Arrays.copyOf(vals, capacity);
+            }
+            rows[size] = i;
+            cols[size] = j;
+            vals[size] = value;
+            size++;
+            return this;
+        }
+
+        public SparseMatrix build() {
+            int[] rowPtr = new int[n + 1];
+            for (int k = 0; k < size; k++) {
+                rowPtr[rows[k] + 1]++;
+            }
+            for (int i = 0; i < n; i++) {
+                rowPtr[i + 1] += rowPtr[i];
+            }
+            long[] keys = new long[size];
+            int[] next = Arrays.copyOf(rowPtr, n);
+            for (int k = 0; k < size; k++) {
+                keys[next[rows[k]]++] = ((long) cols[k] << 32) | k;
+            }
+
+            int[] colIdx = new int[size];
+            double[] values = new double[size];
+            int nnz = 0;
+            int[] compactPtr = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                Arrays.sort(keys, rowPtr[i], rowPtr[i + 1]);
+                for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) {
+                    int col = (int) (keys[p] >>> 32);
+                    boolean overwritten = p + 1 < rowPtr[i + 1] && (int) (keys[p + 1] >>> 32) == col;
+                    double value = vals[(int) keys[p]];
+                    if (!overwritten && value != 0.0) {
+                        colIdx[nnz] = col;
+                        values[nnz] = value;
+                        nnz++;
+                    }
+                }
+                compactPtr[i + 1] = nnz;
+            }
+            return new SparseMatrix(n, m, compactPtr, Arrays.copyOf(colIdx, nnz), Arrays.copyOf(values, nnz));
+        }
+    }
+
+    @Override
+    public int getNumRows() {
+        return n;
+    }
+
+    @Override
+    public int getNumColumns() {
+        return m;
+    }
+
+    public int nonZeros() {
+        return values.length;
+    }
+
+    public double density() {
+        return (double) values.length / ((double) n * m);
+    }
+
+    @Override
+    public double at(int i, int j) {
+        if (i < 0 || i >= n) {
+            throw new IllegalArgumentException("Index " + i + " out of bounds of number of rows " + n);
+        }
+        if (j < 0 || j >= m) {
+            throw new IllegalArgumentException("Index " + j + " out of bounds of number of columns " + m);
+        }
+        int p = Arrays.binarySearch(colIdx, rowPtr[i], rowPtr[i + 1], j);
+        return p >= 0 ? values[p] : 0.0;
+    }
+
+    @Override
+    public Matrix toDense() {
+        double[] data = new double[MatrixLimits.checkedSize(n, m)];
+        for (int i = 0; i < n; i++) {
+            for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) {
+                data[i * m + colIdx[p]] = values[p];
+            }
+        }
+        return new Matrix(n, m, data);
+    }
+
+    public SparseMatrix transpose() {
+        SparseMatrix result = transposed;
+        if (result == null) {
+            result = toCsc();
+            result.transposed = this;
+            transposed = result;
+        }
+        return result;
+    }
+
+    private SparseMatrix toCsc() {
+        int[] colPtr = new int[m + 1];
+        for (int col : colIdx) {
+            colPtr[col + 1]++;
+        }
+        for (int j = 0; j < m; j++) {
+            colPtr[j + 1] += colPtr[j];
+        }
+        int[] rowIdx = new int[values.length];
+        double[] cscValues = new double[values.length];
+        int[] next = Arrays.copyOf(colPtr, m);
+        for (int i = 0; i < n; i++) {
+            for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) {
+                int q = next[colIdx[p]]++;
+                rowIdx[q] = i;
+                cscValues[q] = values[p];
+            }
+        }
+        return new SparseMatrix(m, n, colPtr, rowIdx, cscValues);
+    }
+
+    @Override
+    public NumericMatrix add(NumericMatrix other) {
+        if (other instanceof SparseMatrix s) {
+            return add(s);
+        }
+        return add(other.toDense());
+    }
+
+    @Override
+    public NumericMatrix subtract(NumericMatrix other) {
+        if (other instanceof SparseMatrix s) {
+            return subtract(s);
+        }
+        return subtract(other.toDense());
+    }
+
+    @Override
+    public NumericMatrix dot(NumericMatrix other) {
+        if (other instanceof SparseMatrix s) {
+            return dot(s);
+        }
+        return dot(other.toDense());
+    }
+
+    public SparseMatrix add(SparseMatrix other) {
+        checkSameDimensions(other.n, other.m, "Matrix addition requires same dimensions");
+        return merge(other, 1.0);
+    }
+
+    public SparseMatrix subtract(SparseMatrix other) {
+        checkSameDimensions(other.n, other.m, "Matrix subtraction requires same dimensions");
+        return merge(other, -1.0);
+    }
+
+    public Matrix add(Matrix other) {
+        checkSameDimensions(other.getNumRows(), other.getNumColumns(), "Matrix addition requires same dimensions");
+        Matrix result = other.copy();
+        scatter(result, 1.0);
+        return result;
+    }
+
+    public Matrix subtract(Matrix other) {
+        checkSameDimensions(other.getNumRows(), other.getNumColumns(), "Matrix subtraction requires same dimensions");
+        double[] data = new double[n * m];
+        for (int i = 0; i < n; i++) {
+            ElementwiseKernels.negate(other.array(), other.rowOffset(i), data, i * m, m);
+        }
+        Matrix result = new Matrix(n, m, data);
+        scatter(result, 1.0);
+        return result;
+    }
+
+    Matrix subtractFrom(Matrix dense) {
+        checkSameDimensions(dense.getNumRows(), dense.getNumColumns(), "Matrix subtraction requires same dimensions");
+        Matrix result = dense.copy();
+        scatter(result, -1.0);
+        return result;
+    }
+
+    public Matrix dot(Matrix other) {
+        if (this.m != other.getNumRows()) {
+            throw new IllegalArgumentException(
+                    "Matrix multiplication requires columns of A == rows of B"
+            );
+        }
+        int q = other.getNumColumns();
+        double[] b = other.array();
+        double[] c = new double[MatrixLimits.checkedSize(n, q)];
+        for (int i = 0; i < n; i++) {
+            for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) {
+                DotKernels.axpy(values[p], b, other.rowOffset(colIdx[p]), c, i * q, q);
+            }
+        }
+        return new Matrix(n, q, c);
+    }
+
+    public SparseMatrix dot(SparseMatrix other) {
+        if (this.m != other.n) {
+            throw new IllegalArgumentException(
+                    "Matrix multiplication requires columns of A == rows of B"
+            );
+        }
+        int q = other.m;
+        double[] accumulator = new double[q];
+        int[] marker = new int[q];
+        Arrays.fill(marker, -1);
+        int[] touched = new int[q];
+
+        int[] resultPtr = new int[n + 1];
+        int[] resultCols = new int[Math.max(16, values.length)];
+        double[] resultValues = new double[resultCols.length];
+        int nnz = 0;
+        for (int i = 0; i < n; i++) {
+            int count = 0;
+            for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) {
+                int k = colIdx[p];
+                double v = values[p];
+                for (int r = other.rowPtr[k]; r < other.rowPtr[k + 1]; r++) {
+                    int j = other.colIdx[r];
+                    if (marker[j] != i) {
+                        marker[j] = i;
+                        accumulator[j] = 0.0;
+                        touched[count++] = j;
+                    }
+                    accumulator[j] += v * other.values[r];
+                }
+            }
+            Arrays.sort(touched, 0, count);
+            if (nnz + count > resultCols.length) {
+                int capacity = (int) Math.min(MatrixLimits.MAX_ARRAY_LENGTH, Math.max(2L * resultCols.length, (long) nnz + count));
+                resultCols = Arrays.copyOf(resultCols, capacity);
+                resultValues = Arrays.copyOf(resultValues, capacity);
+            }
+            for (int t = 0; t < count; t++) {
+                int j = touched[t];
+                if (accumulator[j] != 0.0) {
+                    resultCols[nnz] = j;
+                    resultValues[nnz] = accumulator[j];
+                    nnz++;
+                }
+            }
+            resultPtr[i + 1] = nnz;
+        }
+        return new SparseMatrix(n, q, resultPtr, Arrays.copyOf(resultCols, nnz), Arrays.copyOf(resultValues, nnz));
+    }
+
+    static Matrix multiply(Matrix dense, SparseMatrix sparse) {
+        if (dense.getNumColumns() != sparse.n) {
+            throw new IllegalArgumentException(
+                    "Matrix multiplication requires columns of A == rows of B"
+            );
+        }
+        int rows = dense.getNumRows();
+        int q = sparse.m;
+        double[] a = dense.array();
+        double[] c = new double[MatrixLimits.checkedSize(rows, q)];
+        for (int i = 0; i < rows; i++) {
+            int aRow = dense.rowOffset(i);
+            int cRow = i * q;
+            for (int k = 0; k < sparse.n; k++) {
+                double aik = a[aRow + k];
+                if (aik == 0.0) {
+                    continue;
+                }
+                for (int p = sparse.rowPtr[k]; p < sparse.rowPtr[k + 1]; p++) {
+                    c[cRow + sparse.colIdx[p]] += aik * sparse.values[p];
+                }
+            }
+        }
+        return new Matrix(rows, q, c);
+    }
+
+    private void checkSameDimensions(int rows, int cols, String err) {
+        if (this.n != rows || this.m != cols) {
+            throw new IllegalArgumentException(err);
+        }
+    }
+
+    private void scatter(Matrix target, double sign) {
+        double[] data = target.array();
+        for (int i = 0; i < n; i++) {
+            int row = target.rowOffset(i);
+            for (int p = rowPtr[i]; p < rowPtr[i + 1]; p++) {
+                data[row + colIdx[p]] += sign * values[p];
+            }
+        }
+    }
+
+    private SparseMatrix merge(SparseMatrix other, double sign) {
+        int capacity = (int) Math.min(MatrixLimits.MAX_ARRAY_LENGTH, (long) values.length + other.values.length);
+        int[] resultPtr = new int[n + 1];
+        int[] resultCols = new int[capacity];
+        double[] resultValues = new double[capacity];
+        int nnz = 0;
+        for (int i = 0; i < n; i++) {
+            int p = rowPtr[i];
+            int pEnd = rowPtr[i + 1];
+            int r = other.rowPtr[i];
+            int rEnd = other.rowPtr[i + 1];
+            while (p < pEnd || r < rEnd) {
+                int col;
+                double value;
+                if (r == rEnd || (p < pEnd && colIdx[p] < other.colIdx[r])) {
+                    col = colIdx[p];
+                    value = values[p++];
+                } else if (p == pEnd || other.colIdx[r] < colIdx[p]) {
+                    col = other.colIdx[r];
+                    value = sign * other.values[r++];
+                } else {
+                    col = colIdx[p];
+                    value = values[p++] + sign * other.values[r++];
+                }
+                if (value != 0.0) {
+                    resultCols[nnz] = col;
+                    resultValues[nnz] = value;
+                    nnz++;
+                }
+            }
+            resultPtr[i + 1] = nnz;
+        }
+        return new SparseMatrix(n, m, resultPtr, Arrays.copyOf(resultCols, nnz), Arrays.copyOf(resultValues, nnz));
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 * n + m;
+        result = 31 * result + Arrays.hashCode(rowPtr);
+        result = 31 * result + Arrays.hashCode(colIdx);
+        return 31 * result + Arrays.hashCode(values);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof SparseMatrix s) {
+            return n == s.n && m == s.m
+                    && Arrays.equals(rowPtr, s.rowPtr)
+                    && Arrays.equals(colIdx, s.colIdx)
+                    && Arrays.equals(values, s.values);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SparseMatrix[%dx%d, nnz=%d]", n, m, values.length);
+    }
+}
@@ -0,0 +1,161 @@
+package mouse.univ;
+
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+final class StrassenKernel {
+
+    static final int MIN_CROSSOVER = 16;
+
+    private StrassenKernel() {
+    }
+
+    private record Block(double[] data, int offset, int stride) {
+    }
+
+    static boolean applies(int n, int p, int q, int crossover) {
+        return n == p && p == q && n > crossover;
+    }
+
+    /**
+     * With a parallel policy the recursion runs on the policy's pool and the seven sub-products
+     * of a level are forked while their volume {@code h^3} is at least the policy threshold.
+     */
+    static double[] multiply(double[] a, int ao, int as,
+                             double[] b, int bo, int bs,
+                             int n, ExecutionPolicy policy) {
+        Block left = new Block(a, ao, as);
+        Block right = new Block(b, bo, bs);
+        int crossover = policy.getStrassenCrossover();
+        if (!policy.isParallel()) {
+            return multiply(left, right, n, crossover, Long.MAX_VALUE);
+        }
+        return policy.getPool().invoke(new SubProduct(left, right, n, crossover, policy.getThreshold()));
+    }
+
+    private static final class SubProduct extends RecursiveTask<double[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final Block a;
+        private final Block b;
+        private final int n;
+        private final int crossover;
+        private final long threshold;
+
+        SubProduct(Block a, Block b, int n, int crossover, long threshold) {
+            this.a = a;
+            this.b = b;
+            this.n = n;
+            this.crossover = crossover;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected double[] compute() {
+            return multiply(a, b, n, crossover, threshold);
+        }
+    }
+
+    private static double[] multiply(Block a, Block b, int n, int crossover, long threshold) {
+        double[] c = new double[n * n];
+        if (n <= crossover) {
+            DotKernels.multiplyTile(a.data, a.offset, a.stride, b.data, b.offset, b.stride,
+                    c, 0, n, 0, n, 0, n, n);
+            return c;
+        }
+
+        int h = (n + 1) / 2;
+        Block a11 = quadrant(a, n, 0, 0, h);
+        Block a12 = quadrant(a, n, 0, h, h);
+        Block a21 = quadrant(a, n, h, 0, h);
+        Block a22 = quadrant(a, n, h, h, h);
+        Block b11 = quadrant(b, n, 0, 0, h);
+        Block b12 = quadrant(b, n, 0, h, h);
+        Block b21 = quadrant(b, n, h, 0, h);
+        Block b22 = quadrant(b, n, h, h, h);
+
+        Block s1 = add(a21, a22, h);
+        Block s2 = subtract(s1, a11, h);
+        Block s3 = subtract(a11, a21, h);
+        Block s4 = subtract(a12, s2, h);
+        Block t1 = subtract(b12, b11, h);
+        Block t2 = subtract(b22, t1, h);
+        Block t3 = subtract(b22, b12, h);
+        Block t4 = subtract(t2, b21, h);
+
+        Block[] lefts = {a11, a12, s4, a22, s1, s2, s3};
+        Block[] rights = {b11, b21, b22, t4, t1, t2, t3};
+        double[][] products = new double[7][];
+        if ((long) h * h * h >= threshold && ForkJoinTask.inForkJoinPool()) {
+            SubProduct[] tasks = new SubProduct[7];
+            for (int k = 1; k < 7; k++) {
+                tasks[k] = new SubProduct(lefts[k], rights[k], h, crossover, threshold);
+                tasks[k].fork();
+            }
+            products[0] = multiply(lefts[0], rights[0], h, crossover, threshold);
+            for (int k = 6; k >= 1; k--) {
+                products[k] = tasks[k].join();
+            }
+        } else {
+            for (int k = 0; k < 7; k++) {
+                products[k] = multiply(lefts[k], rights[k], h, crossover, threshold);
+            }
+        }
+        double[] m1 = products[0];
+        double[] m2 = products[1];
+        double[] m3 = products[2];
+        double[] m4 = products[3];
+        double[] m5 = products[4];
+        double[] m6 = products[5];
+        double[] m7 = products[6];
+
+        int rows = n - h;
+        for (int i = 0; i < h; i++) {
+            int q = i * h;
+            int top = i * n;
+            int bottom = (i + h) * n;
+            for (int j = 0; j < h; j++) {
+                double u2 = m1[q + j] + m6[q + j];
+                double u3 = u2 + m7[q + j];
+                c[top + j] = m1[q + j] + m2[q + j];
+                if (j < rows) {
+                    c[top + h + j] = u2 + m5[q + j] + m3[q + j];
+                }
+                if (i < rows) {
+                    c[bottom + j] = u3 - m4[q + j];
+                    if (j < rows) {
+                        c[bottom + h + j] = u3 + m5[q + j];
+                    }
+                }
+            }
+        }
+        return c;
+    }
+
+    private static Block quadrant(Block src, int n, int row, int col, int h) {
+        if (n % 2 == 0) {
+            return new Block(src.data, src.offset + row * src.stride + col, src.stride);
+        }
+        double[] q = new double[h * h];
+        int rows = Math.min(h, n - row);
+        int cols = Math.min(h, n - col);
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(src.data, src.offset + (row + i) * src.stride + col, q, i * h, cols);
+        }
+        return new Block(q, 0, h);
+    }
+
+    private static Block add(Block x, Block y, int h) {
+        double[] r = new double[h * h];
+        ElementwiseKernels.add(x.data, x.offset, x.stride, y.data, y.offset, y.stride,
+                r, 0, h, 0, h, 0, h);
+        return new Block(r, 0, h);
+    }
+
+    private static Block subtract(Block x, Block y, int h) {
+        double[] r = new double[h * h];
+        ElementwiseKernels.subtract(x.data, x.offset, x.stride, y.data, y.offset, y.stride,
+                r, 0, h, 0, h, 0, h);
+        return new Block(r, 0, h);
+    }
+}
@@ -0,0 +1,6 @@
+package mouse.univ;
+
+@FunctionalInterface
+interface TileKernel {
+    void compute(int rowFrom, int rowTo, int colFrom, int colTo);
+}
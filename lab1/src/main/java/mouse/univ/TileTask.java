@@ -0,0 +1,49 @@
+package mouse.univ;
+
+import java.util.concurrent.RecursiveAction;
+
+final class TileTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final TileKernel kernel;
+    private final int rowFrom;
+    private final int rowTo;
+    private final int colFrom;
+    private final int colTo;
+    private final long costPerCell;
+    private final long leafWork;
+
+    TileTask(TileKernel kernel, int rowFrom, int rowTo, int colFrom, int colTo, long costPerCell, long leafWork) {
+        this.kernel = kernel;
+        this.rowFrom = rowFrom;
+        this.rowTo = rowTo;
+        this.colFrom = colFrom;
+        this.colTo = colTo;
+        this.costPerCell = costPerCell;
+        this.leafWork = leafWork;
+    }
+
+    @Override
+    protected void compute() {
+        int rows = rowTo - rowFrom;
+        int cols = colTo - colFrom;
+        long work = (long) rows * cols * costPerCell;
+        if (work <= leafWork || (rows == 1 && cols == 1)) {
+            kernel.compute(rowFrom, rowTo, colFrom, colTo);
+            return;
+        }
+        if (rows >= cols) {
+            int mid = rowFrom + rows / 2;
+            invokeAll(
+                    new TileTask(kernel, rowFrom, mid, colFrom, colTo, costPerCell, leafWork),
+                    new TileTask(kernel, mid, rowTo, colFrom, colTo, costPerCell, leafWork)
+            );
+        } else {
+            int mid = colFrom + cols / 2;
+            invokeAll(
+                    new TileTask(kernel, rowFrom, rowTo, colFrom, mid, costPerCell, leafWork),
+                    new TileTask(kernel, rowFrom, rowTo, mid, colTo, costPerCell, leafWork)
+            );
+        }
+    }
+}
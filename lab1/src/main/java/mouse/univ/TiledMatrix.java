@@ -0,0 +1,223 @@
+package mouse.univ;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Matrix stored on disk as square tiles, one file per tile in the {@link Matrix#save(Path)} format.
+ * Tiles on the right and bottom edges are smaller when the size is not a multiple of the tile size.
+ * A tile without a file is all zeros, so untouched and zero tiles take no disk space.
+ * <p>
+ * Only one tile is ever read onto the heap at a time, so the whole matrix may be far larger than
+ * the memory available; see {@link OutOfCoreMultiplier} for products of tiled matrices.
+ */
+public final class TiledMatrix {
+
+    private final Path directory;
+    private final int rows;
+    private final int columns;
+    private final int tileSize;
+
+    private TiledMatrix(Path directory, int rows, int columns, int tileSize) {
+        this.directory = directory;
+        this.rows = rows;
+        this.columns = columns;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Creates an all-zero tiled matrix in {@code directory}, creating the directory if needed.
+     * Existing tile files in the directory are deleted.
+     */
+    public static TiledMatrix create(Path directory, int rows, int columns, int tileSize) throws IOException {
+        if (rows <= 0 || columns <= 0) {
+            String err = String.format("Matrix size must be positive. Given: %dx%d", rows, columns);
+            throw new IllegalArgumentException(err);
+        }
+        if (tileSize <= 0 || (long) tileSize * tileSize > MatrixLimits.MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("Tile size must be positive and fit in one array. Given: " + tileSize);
+        }
+        Files.createDirectories(directory);
+        TiledMatrix matrix = new TiledMatrix(directory, rows, columns, tileSize);
+        for (int ti = 0; ti < matrix.getTileRows(); ti++) {
+            for (int tj = 0; tj < matrix.getTileColumns(); tj++) {
+                Files.deleteIfExists(matrix.tilePath(ti, tj));
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Copies {@code source} into tiles under {@code directory}. Works for any {@link NumericMatrix},
+     * including a {@link MappedMatrix} that does not fit on the heap.
+     */
+    public static TiledMatrix split(NumericMatrix source, Path directory, int tileSize) throws IOException {
+        TiledMatrix result = create(directory, source.getNumRows(), source.getNumColumns(), tileSize);
+        for (int ti = 0; ti < result.getTileRows(); ti++) {
+            for (int tj = 0; tj < result.getTileColumns(); tj++) {
+                int i0 = ti * tileSize;
+                int j0 = tj * tileSize;
+                int h = result.tileHeight(ti);
+                int w = result.tileWidth(tj);
+                double[] data = new double[h * w];
+                if (source instanceof Matrix dense) {
+                    for (int i = 0; i < h; i++) {
+                        System.arraycopy(dense.array(), dense.rowOffset(i0 + i) + j0, data, i * w, w);
+                    }
+                } else {
+                    for (int i = 0; i < h; i++) {
+                        for (int j = 0; j < w; j++) {
+                            data[i * w + j] = source.at(i0 + i, j0 + j);
+                        }
+                    }
+                }
+                result.writeTile(ti, tj, new Matrix(h, w, data));
+            }
+        }
+        return result;
+    }
+
+    public int getNumRows() {
+        return rows;
+    }
+
+    public int getNumColumns() {
+        return columns;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public int getTileRows() {
+        return (rows + tileSize - 1) / tileSize;
+    }
+
+    public int getTileColumns() {
+        return (columns + tileSize - 1) / tileSize;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    int tileHeight(int ti) {
+        return Math.min(tileSize, rows - ti * tileSize);
+    }
+
+    int tileWidth(int tj) {
+        return Math.min(tileSize, columns - tj * tileSize);
+    }
+
+    long tileBytes() {
+        return (long) tileSize * tileSize * Double.BYTES;
+    }
+
+    Path tilePath(int ti, int tj) {
+        return directory.resolve("tile-" + ti + "-" + tj + ".bin");
+    }
+
+    public boolean hasTile(int ti, int tj) {
+        checkTile(ti, tj);
+        return Files.exists(tilePath(ti, tj));
+    }
+
+    /**
+     * Reads one tile onto the heap; a tile without a file is returned as zeros.
+     */
+    public Matrix readTile(int ti, int tj) throws IOException {
+        checkTile(ti, tj);
+        Path path = tilePath(ti, tj);
+        if (!Files.exists(path)) {
+            return new Matrix(tileHeight(ti), tileWidth(tj), new double[tileHeight(ti) * tileWidth(tj)]);
+        }
+        Matrix tile = MatrixFiles.read(path, MatrixLimits.LARGE);
+        if (tile.getNumRows() != tileHeight(ti) || tile.getNumColumns() != tileWidth(tj)) {
+            String err = String.format("Tile file %s holds %dx%d, expected %dx%d",
+                    path, tile.getNumRows(), tile.getNumColumns(), tileHeight(ti), tileWidth(tj));
+            throw new IOException(err);
+        }
+        return tile;
+    }
+
+    /**
+     * Replaces one tile. An all-zero tile removes the tile file instead of writing it.
+     */
+    public void writeTile(int ti, int tj, Matrix tile) throws IOException {
+        checkTile(ti, tj);
+        if (tile.getNumRows() != tileHeight(ti) || tile.getNumColumns() != tileWidth(tj)) {
+            String err = String.format("Tile (%d, %d) must be %dx%d. Given: %dx%d",
+                    ti, tj, tileHeight(ti), tileWidth(tj), tile.getNumRows(), tile.getNumColumns());
+            throw new IllegalArgumentException(err);
+        }
+        Path path = tilePath(ti, tj);
+        if (isZero(tile)) {
+            Files.deleteIfExists(path);
+        } else {
+            MatrixFiles.write(tile, path);
+        }
+    }
+
+    private static boolean isZero(Matrix tile) {
+        double[] data = tile.array();
+        for (int i = 0; i < tile.getNumRows(); i++) {
+            int row = tile.rowOffset(i);
+            for (int j = 0; j < tile.getNumColumns(); j++) {
+                if (data[row + j] != 0.0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void checkTile(int ti, int tj) {
+        if (ti < 0 || ti >= getTileRows()) {
+            throw new IllegalArgumentException("Tile index " + ti + " out of bounds of number of tile rows " + getTileRows());
+        }
+        if (tj < 0 || tj >= getTileColumns()) {
+            throw new IllegalArgumentException("Tile index " + tj + " out of bounds of number of tile columns " + getTileColumns());
+        }
+    }
+
+    public Matrix toDense() throws IOException {
+        double[] data = new double[MatrixLimits.checkedSize(rows, columns)];
+        for (int ti = 0; ti < getTileRows(); ti++) {
+            for (int tj = 0; tj < getTileColumns(); tj++) {
+                if (!hasTile(ti, tj)) {
+                    continue;
+                }
+                Matrix tile = readTile(ti, tj);
+                int w = tile.getNumColumns();
+                for (int i = 0; i < tile.getNumRows(); i++) {
+                    System.arraycopy(tile.array(), tile.rowOffset(i), data,
+                            (ti * tileSize + i) * columns + tj * tileSize, w);
+                }
+            }
+        }
+        return new Matrix(rows, columns, data);
+    }
+
+    /**
+     * Writes the whole matrix as a single row-major file, one tile at a time, so the result can be
+     * opened with {@link Matrix#map(Path)} or {@link MappedMatrix#open}.
+     */
+    public void save(Path path) throws IOException {
+        try (FileChannel channel = MatrixFiles.create(path, rows, columns)) {
+            for (int ti = 0; ti < getTileRows(); ti++) {
+                for (int tj = 0; tj < getTileColumns(); tj++) {
+                    if (hasTile(ti, tj)) {
+                        MatrixFiles.writeBlock(channel, columns, (long) ti * tileSize, (long) tj * tileSize, readTile(ti, tj));
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TiledMatrix[%dx%d, tile %d, %s]", rows, columns, tileSize, directory);
+    }
+}
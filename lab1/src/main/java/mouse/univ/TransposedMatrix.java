@@ -0,0 +1,147 @@
+package mouse.univ;
+
+/**
+ * Read-only transposed view of a {@link Matrix}, created in O(1) by {@link Matrix#transpose()}.
+ * Reads go straight to the original matrix, so later changes to it are visible through the view.
+ * Products involving the view pick a loop order suited to the transposed layout instead of copying it.
+ */
+public final class TransposedMatrix implements NumericMatrix {
+
+    static final int TRANSPOSE_BLOCK = 32;
+
+    private final Matrix base;
+
+    TransposedMatrix(Matrix base) {
+        this.base = base;
+    }
+
+    @Override
+    public int getNumRows() {
+        return base.getNumColumns();
+    }
+
+    @Override
+    public int getNumColumns() {
+        return base.getNumRows();
+    }
+
+    @Override
+    public double at(int i, int j) {
+        if (i < 0 || i >= getNumRows()) {
+            throw new IllegalArgumentException("Index " + i + " out of bounds of number of rows " + getNumRows());
+        }
+        if (j < 0 || j >= getNumColumns()) {
+            throw new IllegalArgumentException("Index " + j + " out of bounds of number of columns " + getNumColumns());
+        }
+        return base.at(j, i);
+    }
+
+    public Matrix transpose() {
+        return base;
+    }
+
+    @Override
+    public Matrix toDense() {
+        int n = getNumRows();
+        int m = getNumColumns();
+        Matrix result = new Matrix(n, m, new double[MatrixLimits.checkedSize(n, m)]);
+        copyTransposed(base, result.array(), 0, m);
+        return result;
+    }
+
+    @Override
+    public Matrix add(NumericMatrix other) {
+        return toDense().add(other);
+    }
+
+    @Override
+    public Matrix subtract(NumericMatrix other) {
+        return toDense().subtract(other);
+    }
+
+    @Override
+    public Matrix dot(NumericMatrix other) {
+        if (other instanceof Matrix b) {
+            return dot(b);
+        }
+        if (other instanceof TransposedMatrix b) {
+            return dot(b);
+        }
+        return toDense().dot(other);
+    }
+
+    public Matrix dot(Matrix other) {
+        return dot(other, ExecutionPolicy.sequential());
+    }
+
+    /**
+     * Computes {@code A^T * B} as rank-1 updates over matching rows of A and B.
+     */
+    public Matrix dot(Matrix other, ExecutionPolicy policy) {
+        int n = getNumRows();
+        int p = getNumColumns();
+        int q = other.getNumColumns();
+        checkMultipliable(p, other.getNumRows());
+        MatrixMetrics.Probe probe = MatrixMetrics.begin(MatrixMetrics.Operation.DOT);
+        Matrix result = new Matrix(n, q, new double[MatrixLimits.checkedSize(n, q)]);
+        double[] c = result.array();
+        policy.forEachTile(n, q, p, (i0, i1, j0, j1) -> DotKernels.multiplyTransposedA(
+                base.array(), base.rowOffset(0), base.rowStride(),
+                other.array(), other.rowOffset(0), other.rowStride(),
+                c, 0, q,
+                i0, i1, j0, j1, p));
+        if (probe != null) {
+            probe.end(n, q, p, 2L * n * p * q, (long) n * q * Double.BYTES);
+        }
+        return result;
+    }
+
+    public Matrix dot(TransposedMatrix other) {
+        return dot(other, ExecutionPolicy.sequential());
+    }
+
+    /**
+     * Computes {@code A^T * B^T} as {@code (B * A)^T}: the product runs on the original row-major
+     * operands and only the n x q result is transposed on the way out.
+     */
+    public Matrix dot(TransposedMatrix other, ExecutionPolicy policy) {
+        int n = getNumRows();
+        int q = other.getNumColumns();
+        checkMultipliable(getNumColumns(), other.getNumRows());
+        Matrix product = other.base.dot(base, policy);
+        Matrix result = new Matrix(n, q, new double[MatrixLimits.checkedSize(n, q)]);
+        copyTransposed(product, result.array(), 0, q);
+        return result;
+    }
+
+    private static void checkMultipliable(int columns, int rows) {
+        if (columns != rows) {
+            throw new IllegalArgumentException(
+                    "Matrix multiplication requires columns of A == rows of B"
+            );
+        }
+    }
+
+    static void copyTransposed(Matrix source, double[] target, int offset, int stride) {
+        double[] src = source.array();
+        int rows = source.getNumRows();
+        int cols = source.getNumColumns();
+        for (int ii = 0; ii < rows; ii += TRANSPOSE_BLOCK) {
+            int iEnd = Math.min(ii + TRANSPOSE_BLOCK, rows);
+            for (int jj = 0; jj < cols; jj += TRANSPOSE_BLOCK) {
+                int jEnd = Math.min(jj + TRANSPOSE_BLOCK, cols);
+                for (int i = ii; i < iEnd; i++) {
+                    int row = source.rowOffset(i);
+                    for (int j = jj; j < jEnd; j++) {
+                        target[offset + j * stride + i] = src[row + j];
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toDense().toString();
+    }
+}
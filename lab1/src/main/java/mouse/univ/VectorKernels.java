@@ -0,0 +1,230 @@
+package mouse.univ;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorKernels() {
+    }
+
+    static int laneCount() {
+        return SPECIES.length();
+    }
+
+    static void add(double[] a, int ao, double[] b, int bo, double[] c, int co, int len) {
+        int j = 0;
+        int bound = SPECIES.loopBound(len);
+        for (; j < bound; j += SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, ao + j);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, bo + j);
+            va.add(vb).intoArray(c, co + j);
+        }
+        for (; j < len; j++) {
+            c[co + j] = a[ao + j] + b[bo + j];
+        }
+    }
+
+    static void subtract(double[] a, int ao, double[] b, int bo, double[] c, int co, int len) {
+        int j = 0;
+        int bound = SPECIES.loopBound(len);
+        for (; j < bound; j += SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, ao + j);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, bo + j);
+            va.sub(vb).intoArray(c, co + j);
+        }
+        for (; j < len; j++) {
+            c[co + j] = a[ao + j] - b[bo + j];
+        }
+    }
+
+    static void axpy(double alpha, double[] x, int xo, double[] y, int yo, int len) {
+        int j = 0;
+        int bound = SPECIES.loopBound(len);
+        DoubleVector va = DoubleVector.broadcast(SPECIES, alpha);
+        for (; j < bound; j += SPECIES.length()) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, xo + j);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, yo + j);
+            vy.add(va.mul(vx)).intoArray(y, yo + j);
+        }
+        for (; j < len; j++) {
+            y[yo + j] += alpha * x[xo + j];
+        }
+    }
+
+    static void axpy4(double a0, double a1, double a2, double a3,
+                      double[] x, int xo,
+                      double[] y, int y0, int y1, int y2, int y3, int len) {
+        int j = 0;
+        int bound = SPECIES.loopBound(len);
+        DoubleVector v0 = DoubleVector.broadcast(SPECIES, a0);
+        DoubleVector v1 = DoubleVector.broadcast(SPECIES, a1);
+        DoubleVector v2 = DoubleVector.broadcast(SPECIES, a2);
+        DoubleVector v3 = DoubleVector.broadcast(SPECIES, a3);
+        for (; j < bound; j += SPECIES.length()) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, xo + j);
+            DoubleVector.fromArray(SPECIES, y, y0 + j).add(v0.mul(vx)).intoArray(y, y0 + j);
+            DoubleVector.fromArray(SPECIES, y, y1 + j).add(v1.mul(vx)).intoArray(y, y1 + j);
+            DoubleVector.fromArray(SPECIES, y, y2 + j).add(v2.mul(vx)).intoArray(y, y2 + j);
+            DoubleVector.fromArray(SPECIES, y, y3 + j).add(v3.mul(vx)).intoArray(y, y3 + j);
+        }
+        for (; j < len; j++) {
+            double xj = x[xo + j];
+            y[y0 + j] += a0 * xj;
+            y[y1 + j] += a1 * xj;
+            y[y2 + j] += a2 * xj;
+            y[y3 + j] += a3 * xj;
+        }
+    }
+
+    static double dotProduct(double[] x, int xo, double[] y, int yo, int len) {
+        int j = 0;
+        int bound = SPECIES.loopBound(len);
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        for (; j < bound; j += SPECIES.length()) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, xo + j);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, yo + j);
+            acc = acc.add(vx.mul(vy));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; j < len; j++) {
+            sum += x[xo + j] * y[yo + j];
+        }
+        return sum;
+    }
+
+    static void dot2x4(double[] x, int x0, int x1,
+                       double[] y, int y0, int y1, int y2, int y3,
+                       double[] c, int c0, int c1, int len) {
+        int j = 0;
+        int bound = SPECIES.loopBound(len);
+        DoubleVector s00 = DoubleVector.zero(SPECIES);
+        DoubleVector s01 = DoubleVector.zero(SPECIES);
+        DoubleVector s02 = DoubleVector.zero(SPECIES);
+        DoubleVector s03 = DoubleVector.zero(SPECIES);
+        DoubleVector s10 = DoubleVector.zero(SPECIES);
+        DoubleVector s11 = DoubleVector.zero(SPECIES);
+        DoubleVector s12 = DoubleVector.zero(SPECIES);
+        DoubleVector s13 = DoubleVector.zero(SPECIES);
+        for (; j < bound; j += SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, x, x0 + j);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, x, x1 + j);
+            DoubleVector w = DoubleVector.fromArray(SPECIES, y, y0 + j);
+            s00 = s00.add(va.mul(w));
+            s10 = s10.add(vb.mul(w));
+            w = DoubleVector.fromArray(SPECIES, y, y1 + j);
+            s01 = s01.add(va.mul(w));
+            s11 = s11.add(vb.mul(w));
+            w = DoubleVector.fromArray(SPECIES, y, y2 + j);
+            s02 = s02.add(va.mul(w));
+            s12 = s12.add(vb.mul(w));
+            w = DoubleVector.fromArray(SPECIES, y, y3 + j);
+            s03 = s03.add(va.mul(w));
+            s13 = s13.add(vb.mul(w));
+        }
+        double r00 = s00.reduceLanes(VectorOperators.ADD);
+        double r01 = s01.reduceLanes(VectorOperators.ADD);
+        double r02 = s02.reduceLanes(VectorOperators.ADD);
+        double r03 = s03.reduceLanes(VectorOperators.ADD);
+        double r10 = s10.reduceLanes(VectorOperators.ADD);
+        double r11 = s11.reduceLanes(VectorOperators.ADD);
+        double r12 = s12.reduceLanes(VectorOperators.ADD);
+        double r13 = s13.reduceLanes(VectorOperators.ADD);
+        for (; j < len; j++) {
+            double a = x[x0 + j];
+            double b = x[x1 + j];
+            r00 += a * y[y0 + j];
+            r01 += a * y[y1 + j];
+            r02 += a * y[y2 + j];
+            r03 += a * y[y3 + j];
+            r10 += b * y[y0 + j];
+            r11 += b * y[y1 + j];
+            r12 += b * y[y2 + j];
+            r13 += b * y[y3 + j];
+        }
+        c[c0] += r00;
+        c[c0 + 1] += r01;
+        c[c0 + 2] += r02;
+        c[c0 + 3] += r03;
+        c[c1] += r10;
+        c[c1 + 1] += r11;
+        c[c1 + 2] += r12;
+        c[c1 + 3] += r13;
+    }
+
+    static void dot4(double[] x, int xo,
+                     double[] y, int y0, int y1, int y2, int y3,
+                     double[] c, int co, int len) {
+        int j = 0;
+        int bound = SPECIES.loopBound(len);
+        DoubleVector s0 = DoubleVector.zero(SPECIES);
+        DoubleVector s1 = DoubleVector.zero(SPECIES);
+        DoubleVector s2 = DoubleVector.zero(SPECIES);
+        DoubleVector s3 = DoubleVector.zero(SPECIES);
+        for (; j < bound; j += SPECIES.length()) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, xo + j);
+            s0 = s0.add(vx.mul(DoubleVector.fromArray(SPECIES, y, y0 + j)));
+            s1 = s1.add(vx.mul(DoubleVector.fromArray(SPECIES, y, y1 + j)));
+            s2 = s2.add(vx.mul(DoubleVector.fromArray(SPECIES, y, y2 + j)));
+            s3 = s3.add(vx.mul(DoubleVector.fromArray(SPECIES, y, y3 + j)));
+        }
+        double r0 = s0.reduceLanes(VectorOperators.ADD);
+        double r1 = s1.reduceLanes(VectorOperators.ADD);
+        double r2 = s2.reduceLanes(VectorOperators.ADD);
+        double r3 = s3.reduceLanes(VectorOperators.ADD);
+        for (; j < len; j++) {
+            double xj = x[xo + j];
+            r0 += xj * y[y0 + j];
+            r1 += xj * y[y1 + j];
+            r2 += xj * y[y2 + j];
+            r3 += xj * y[y3 + j];
+        }
+        c[co] = r0;
+        c[co + 1] = r1;
+        c[co + 2] = r2;
+        c[co + 3] = r3;
+    }
+
+    static void axpyRows4(double a0, double a1, double a2, double a3,
+                          double[] x, int x0, int x1, int x2, int x3,
+                          double[] y, int yo, int len) {
+        int j = 0;
+        int bound = SPECIES.loopBound(len);
+        DoubleVector v0 = DoubleVector.broadcast(SPECIES, a0);
+        DoubleVector v1 = DoubleVector.broadcast(SPECIES, a1);
+        DoubleVector v2 = DoubleVector.broadcast(SPECIES, a2);
+        DoubleVector v3 = DoubleVector.broadcast(SPECIES, a3);
+        for (; j < bound; j += SPECIES.length()) {
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, yo + j);
+            vy = vy.add(v0.mul(DoubleVector.fromArray(SPECIES, x, x0 + j)));
+            vy = vy.add(v1.mul(DoubleVector.fromArray(SPECIES, x, x1 + j)));
+            vy = vy.add(v2.mul(DoubleVector.fromArray(SPECIES, x, x2 + j)));
+            vy = vy.add(v3.mul(DoubleVector.fromArray(SPECIES, x, x3 + j)));
+            vy.intoArray(y, yo + j);
+        }
+        for (; j < len; j++) {
+            y[yo + j] += a0 * x[x0 + j] + a1 * x[x1 + j] + a2 * x[x2 + j] + a3 * x[x3 + j];
+        }
+    }
+
+    static boolean allClose(double[] a, int ao, double[] b, int bo, int len, double th) {
+        int j = 0;
+        int bound = SPECIES.loopBound(len);
+        for (; j < bound; j += SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, ao + j);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, bo + j);
+            if (!va.sub(vb).abs().compare(VectorOperators.LT, th).allTrue()) {
+                return false;
+            }
+        }
+        for (; j < len; j++) {
+            if (!NumberUtils.doubleEqual(a[ao + j], b[bo + j], th)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
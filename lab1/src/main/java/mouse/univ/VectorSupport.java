@@ -0,0 +1,24 @@
+package mouse.univ;
+
+final class VectorSupport {
+
+    static final String PROPERTY = "mouse.univ.vector";
+    static final boolean ENABLED = detect();
+
+    private VectorSupport() {
+    }
+
+    private static boolean detect() {
+        if (!Boolean.parseBoolean(System.getProperty(PROPERTY, "true"))) {
+            return false;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorKernels.laneCount() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
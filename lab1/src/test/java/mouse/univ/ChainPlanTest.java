@@ -0,0 +1,106 @@
+package mouse.univ;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChainPlanTest {
+
+    private final Random random = new Random(19);
+
+    private Matrix randomRect(int n, int m) {
+        return Matrix.rect(n, m, MatrixLimits.LARGE).generate((i, j) -> random.nextDouble() - 0.5);
+    }
+
+    private Matrix[] chain(int... dims) {
+        Matrix[] factors = new Matrix[dims.length - 1];
+        for (int i = 0; i < factors.length; i++) {
+            factors[i] = randomRect(dims[i], dims[i + 1]);
+        }
+        return factors;
+    }
+
+    private static Matrix leftToRight(Matrix... factors) {
+        Matrix result = factors[0];
+        for (int i = 1; i < factors.length; i++) {
+            result = result.dot(factors[i]);
+        }
+        return result;
+    }
+
+    @Test
+    void testPlan_findsTextbookOrder() {
+        ChainPlan plan = Matrix.planChain(chain(30, 35, 15, 5, 10, 20, 25));
+
+        assertEquals("((M0 x (M1 x M2)) x ((M3 x M4) x M5))", plan.parenthesization());
+        assertEquals(15125, plan.getMultiplyAdds());
+        assertEquals(2 * 15125, plan.getFlops());
+        assertEquals(6, plan.getNumFactors());
+        assertTrue(plan.toString().contains("flops=30250"));
+    }
+
+    @Test
+    void testPlan_reportsLeftToRightCost() {
+        ChainPlan plan = Matrix.planChain(chain(200, 2, 200, 3));
+
+        assertEquals("(M0 x (M1 x M2))", plan.parenthesization());
+        assertEquals(2 * (2L * 200 * 3 + 200L * 2 * 3), plan.getFlops());
+        assertEquals(2 * (200L * 2 * 200 + 200L * 200 * 3), plan.getLeftToRightFlops());
+    }
+
+    @Test
+    void testPlan_saturatesHugeCosts() {
+        int b = 1 << 30;
+        int max = Integer.MAX_VALUE;
+        ChainPlan plan = Matrix.planChain(shape(b, b), shape(b, b), shape(b, 1));
+        ChainPlan wide = Matrix.planChain(shape(max, max), shape(max, max), shape(max, 1));
+
+        assertEquals("(M0 x (M1 x M2))", plan.parenthesization());
+        assertEquals(2L * b * b, plan.getMultiplyAdds());
+        assertEquals(4L * b * b, plan.getFlops());
+        assertEquals(Long.MAX_VALUE, plan.getLeftToRightFlops());
+        assertEquals(2L * max * max, wide.getMultiplyAdds());
+        assertEquals(Long.MAX_VALUE, wide.getFlops());
+    }
+
+    private static Matrix shape(int n, int m) {
+        return new Matrix(n, m, new double[0]);
+    }
+
+    @Test
+    void testMultiplyChain_matchesLeftToRight() {
+        Matrix[] factors = chain(40, 3, 90, 7, 120, 2, 60, 50, 1, 80, 30);
+
+        Matrix expected = leftToRight(factors);
+
+        assertTrue(expected.deepEquals(Matrix.multiplyChain(factors)));
+        assertTrue(expected.deepEquals(Matrix.multiplyChain(ExecutionPolicy.parallel(ForkJoinPool.commonPool()).withThreshold(0), factors)));
+        assertTrue(expected.deepEquals(Matrix.multiplyChain(ExecutionPolicy.parallel(), factors)));
+    }
+
+    @Test
+    void testMultiplyChain_singleFactorReturnsCopy() {
+        Matrix a = randomRect(4, 5);
+
+        Matrix result = Matrix.multiplyChain(a);
+        result.set(0, 0, 10);
+
+        assertNotEquals(10.0, a.at(0, 0));
+        assertEquals(a.dot(Matrix.square(5).unit()), Matrix.multiplyChain(a, Matrix.square(5).unit()));
+    }
+
+    @Test
+    void testMultiplyChain_validatesUpFront() {
+        Matrix[] factors = chain(4, 5, 6);
+        Matrix wrong = randomRect(7, 3);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> Matrix.multiplyChain(factors[0], factors[1], wrong));
+        assertTrue(e.getMessage().contains("factor 1 (5x6) and factor 2 (7x3)"), e.getMessage());
+        assertThrows(IllegalArgumentException.class, Matrix::multiplyChain);
+        assertThrows(IllegalArgumentException.class, () -> Matrix.multiplyChain(factors[0], null));
+    }
+}
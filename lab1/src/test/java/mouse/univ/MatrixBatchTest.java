@@ -0,0 +1,110 @@
+package mouse.univ;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixBatchTest {
+
+    private final Random random = new Random(21);
+
+    private Matrix[] randomMatrices(int count, int n, int m) {
+        Matrix[] matrices = new Matrix[count];
+        for (int k = 0; k < count; k++) {
+            matrices[k] = Matrix.rect(n, m).generate((i, j) -> random.nextDouble() * 2 - 1);
+        }
+        return matrices;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 7, 16, 32})
+    void testDot_matchesPerMatrixDot(int size) {
+        Matrix[] a = randomMatrices(50, size, size + 1);
+        Matrix[] b = randomMatrices(50, size + 1, size);
+
+        MatrixBatch product = MatrixBatch.of(a).dot(MatrixBatch.of(b));
+        MatrixBatch parallel = MatrixBatch.of(a).dot(MatrixBatch.of(b),
+                ExecutionPolicy.parallel(ForkJoinPool.commonPool()).withThreshold(0));
+
+        assertEquals(50, product.size());
+        assertEquals(size, product.getNumRows());
+        assertEquals(size, product.getNumColumns());
+        for (int k = 0; k < 50; k++) {
+            assertEquals(a[k].dot(b[k]), product.get(k));
+            assertEquals(a[k].dot(b[k]), parallel.get(k));
+        }
+    }
+
+    @Test
+    void testAddSubtract_matchPerMatrixResults() {
+        Matrix[] a = randomMatrices(30, 5, 3);
+        Matrix[] b = randomMatrices(30, 5, 3);
+        MatrixBatch ba = MatrixBatch.of(a);
+        MatrixBatch bb = MatrixBatch.of(List.of(b));
+
+        MatrixBatch sum = ba.add(bb);
+        MatrixBatch difference = ba.subtract(bb, ExecutionPolicy.parallel(ForkJoinPool.commonPool()).withThreshold(0));
+
+        for (int k = 0; k < 30; k++) {
+            assertEquals(a[k].add(b[k]), sum.get(k));
+            assertEquals(a[k].subtract(b[k]), difference.get(k));
+        }
+    }
+
+    @Test
+    void testGetSet_shareStorage() {
+        MatrixBatch batch = MatrixBatch.zero(3, 2, 2);
+        Matrix m = Matrix.square(2).withNumbers(List.of(1, 2, 3, 4));
+
+        batch.set(1, m);
+        Matrix view = batch.get(1);
+        view.set(0, 0, 9);
+
+        assertEquals(9.0, batch.get(1).at(0, 0));
+        assertEquals(4.0, batch.get(1).at(1, 1));
+        assertEquals(Matrix.square(2).zero(), batch.get(0));
+        assertSame(view, batch.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(3));
+        assertThrows(IllegalArgumentException.class, () -> batch.set(0, Matrix.square(3).zero()));
+    }
+
+    @Test
+    void testSet_invalidatesHandedOutViews() {
+        MatrixBatch batch = MatrixBatch.of(Matrix.square(2).withNumbers(List.of(1, 2, 3, 4)));
+        Matrix view = batch.get(0);
+        Matrix before = view.copy();
+        int hash = view.hashCode();
+        Matrix replacement = Matrix.square(2).withNumbers(List.of(5, 6, 7, 8));
+        MatrixOperationCache cache = MatrixOperationCache.withMaxBytes(1 << 20);
+        Matrix w = Matrix.square(2).unit();
+        cache.dot(view, w);
+
+        batch.set(0, replacement);
+
+        assertNotEquals(hash, view.hashCode());
+        assertEquals(replacement.hashCode(), view.hashCode());
+        assertEquals(replacement, view);
+        assertNotEquals(before, view);
+        assertEquals(replacement, cache.dot(view, w));
+    }
+
+    @Test
+    void testOperations_validateShapesOnce() {
+        MatrixBatch a = MatrixBatch.zero(4, 2, 3);
+
+        assertThrows(IllegalArgumentException.class, () -> a.dot(MatrixBatch.zero(4, 2, 3)));
+        assertThrows(IllegalArgumentException.class, () -> a.dot(MatrixBatch.zero(5, 3, 2)));
+        assertThrows(IllegalArgumentException.class, () -> a.add(MatrixBatch.zero(3, 2, 3)));
+        assertThrows(IllegalArgumentException.class, () -> a.subtract(MatrixBatch.zero(4, 3, 2)));
+        assertThrows(IllegalArgumentException.class, () -> MatrixBatch.of(Matrix.square(2).zero(), Matrix.square(3).zero()));
+        assertThrows(IllegalArgumentException.class, () -> MatrixBatch.of(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> MatrixBatch.zero(0, 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> MatrixBatch.zero(1 << 20, 1 << 10, 1 << 10));
+    }
+}
@@ -0,0 +1,94 @@
+package mouse.univ;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixExpressionTest {
+
+    private final Random random = new Random(3);
+
+    private Matrix randomRect(int n, int m) {
+        return Matrix.rect(n, m, MatrixLimits.LARGE).generate((i, j) -> random.nextDouble() * 2 - 1);
+    }
+
+    @Test
+    void testEvaluate_matchesEagerChain() {
+        Matrix a = randomRect(30, 40);
+        Matrix b = randomRect(30, 40);
+        Matrix c = randomRect(30, 40);
+        Matrix d = randomRect(40, 25);
+
+        Matrix lazy = Matrix.expr(a).plus(b).minus(c).times(d).evaluate();
+
+        assertEquals(a.add(b).subtract(c).dot(d), lazy);
+    }
+
+    @Test
+    void testEvaluate_fusedSumIsBitIdentical() {
+        Matrix a = randomRect(70, 5000);
+        Matrix b = randomRect(70, 5000);
+        Matrix c = randomRect(70, 5000);
+        Matrix d = randomRect(70, 5000);
+
+        assertEquals(a.subtract(b).add(c).subtract(d), Matrix.expr(a).minus(b).plus(c).minus(d).evaluate());
+        assertEquals(a.subtract(b.subtract(c)), Matrix.expr(a).minus(Matrix.expr(b).minus(c)).evaluate());
+        assertEquals(a.add(b).add(c),
+                Matrix.expr(a).plus(b).plus(c).evaluate(ExecutionPolicy.parallel(ForkJoinPool.commonPool()).withThreshold(0)));
+    }
+
+    @Test
+    void testEvaluate_acceptsViews() {
+        double[] backing = new double[12 * 20];
+        for (int k = 0; k < backing.length; k++) {
+            backing[k] = k;
+        }
+        Matrix view = Matrix.rect(10, 7, MatrixLimits.LARGE).wrap(backing, 23, 20);
+        Matrix dense = randomRect(10, 7);
+
+        assertEquals(dense.subtract(view), Matrix.expr(dense).minus(view).evaluate());
+        assertEquals(view.add(dense), Matrix.expr(view).plus(dense).evaluate());
+    }
+
+    @Test
+    void testEvaluate_reordersProducts() {
+        Matrix a = randomRect(200, 2);
+        Matrix b = randomRect(2, 200);
+        Matrix c = randomRect(200, 3);
+
+        Matrix lazy = Matrix.expr(a).times(b).times(c).evaluate();
+
+        assertTrue(a.dot(b).dot(c).deepEquals(lazy));
+        assertEquals(a.dot(b.dot(c)), lazy);
+    }
+
+    @Test
+    void testEvaluate_sharedSubexpressionsAndCopies() {
+        Matrix a = randomRect(6, 6);
+        Matrix b = randomRect(6, 6);
+        MatrixExpression sum = Matrix.expr(a).plus(b);
+
+        Matrix product = sum.times(sum).evaluate();
+        Matrix leaf = Matrix.expr(a).evaluate();
+        leaf.set(0, 0, 42);
+
+        assertEquals(a.add(b).dot(a.add(b)), product);
+        assertNotEquals(42.0, a.at(0, 0));
+    }
+
+    @Test
+    void testExpression_checksShapesEagerly() {
+        Matrix a = randomRect(3, 4);
+        Matrix b = randomRect(4, 3);
+
+        assertThrows(IllegalArgumentException.class, () -> Matrix.expr(a).plus(b));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.expr(a).minus(b));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.expr(a).times(a));
+        MatrixExpression product = Matrix.expr(a).times(b);
+        assertEquals(3, product.getNumRows());
+        assertEquals(3, product.getNumColumns());
+    }
+}
@@ -0,0 +1,167 @@
+package mouse.univ;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static mouse.univ.NumberUtils.generateRandomNumbers;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixFilesTest {
+
+    @TempDir
+    Path dir;
+
+    private static Matrix randomRect(int n, int m) {
+        return Matrix.rect(n, m, MatrixLimits.LARGE).withNumbers(generateRandomNumbers(n * m));
+    }
+
+    @Test
+    void testSaveLoad_roundTrip() throws IOException {
+        Matrix matrix = randomRect(37, 81);
+        Path file = dir.resolve("m.bin");
+
+        matrix.save(file);
+
+        assertEquals(MatrixFiles.HEADER_SIZE + 37L * 81 * Double.BYTES, Files.size(file));
+        assertEquals(matrix, Matrix.load(file));
+    }
+
+    @Test
+    void testSave_writesLittleEndianHeader() throws IOException {
+        Path file = dir.resolve("header.bin");
+        Matrix.rect(2, 3).withNumbers(List.of(1, 2, 3, 4, 5, 6)).save(file);
+
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals("MTRX", new String(Files.readAllBytes(file), 0, 4));
+        assertEquals(1, bytes.getShort(4));
+        assertEquals(MatrixFiles.DTYPE_FLOAT64, bytes.get(6));
+        assertEquals(MatrixFiles.LAYOUT_ROW_MAJOR, bytes.get(7));
+        assertEquals(2, bytes.getInt(8));
+        assertEquals(3, bytes.getInt(12));
+        assertEquals(6.0, bytes.getDouble(MatrixFiles.HEADER_SIZE + 5 * Double.BYTES));
+    }
+
+    @Test
+    void testSave_stridedMatrix() throws IOException {
+        double[] data = {1, 2, -1, 3, 4, -1};
+        Matrix matrix = Matrix.square(2).wrap(data, 0, 3);
+        Path file = dir.resolve("strided.bin");
+
+        matrix.save(file);
+
+        assertEquals(Matrix.square(2).withNumbers(List.of(1, 2, 3, 4)), Matrix.load(file));
+    }
+
+    @Test
+    void testLoad_respectsLimits() throws IOException {
+        Path file = dir.resolve("large.bin");
+        randomRect(150, 20).save(file);
+
+        assertThrows(IllegalArgumentException.class, () -> Matrix.load(file));
+        assertEquals(150, Matrix.load(file, MatrixLimits.LARGE).getNumRows());
+    }
+
+    @Test
+    void testLoad_rejectsMalformedFiles() throws IOException {
+        Path shortFile = dir.resolve("short.bin");
+        Files.write(shortFile, new byte[10]);
+        assertThrows(IOException.class, () -> Matrix.load(shortFile));
+
+        Path badMagic = dir.resolve("magic.bin");
+        Files.write(badMagic, new byte[64]);
+        assertThrows(IOException.class, () -> Matrix.load(badMagic));
+
+        Path truncated = dir.resolve("truncated.bin");
+        randomRect(4, 4).save(truncated);
+        try (FileChannel channel = FileChannel.open(truncated, java.nio.file.StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(truncated) - 8);
+        }
+        assertThrows(IOException.class, () -> Matrix.load(truncated));
+        assertThrows(IOException.class, () -> Matrix.map(truncated));
+    }
+
+    @Test
+    void testLoad_rejectsOverflowingSize() throws IOException {
+        // 1263665316 * 1824726041 * 8 wraps around to exactly 32 bytes of elements
+        Path file = dir.resolve("overflow.bin");
+        ByteBuffer bytes = ByteBuffer.allocate(MatrixFiles.HEADER_SIZE + 4 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putInt(MatrixFiles.MAGIC).putShort(MatrixFiles.VERSION)
+                .put(MatrixFiles.DTYPE_FLOAT64).put(MatrixFiles.LAYOUT_ROW_MAJOR)
+                .putInt(1263665316).putInt(1824726041);
+        Files.write(file, bytes.array());
+
+        assertThrows(IOException.class, () -> Matrix.load(file, MatrixLimits.LARGE));
+        assertThrows(IOException.class, () -> Matrix.map(file));
+    }
+
+    @Test
+    void testLoad_columnMajorLayout() throws IOException {
+        Path file = dir.resolve("column-major.bin");
+        ByteBuffer bytes = ByteBuffer.allocate(MatrixFiles.HEADER_SIZE + 6 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putInt(MatrixFiles.MAGIC).putShort(MatrixFiles.VERSION)
+                .put(MatrixFiles.DTYPE_FLOAT64).put(MatrixFiles.LAYOUT_COLUMN_MAJOR)
+                .putInt(2).putInt(3);
+        bytes.position(MatrixFiles.HEADER_SIZE);
+        for (double d : new double[]{1, 4, 2, 5, 3, 6}) {
+            bytes.putDouble(d);
+        }
+        Files.write(file, bytes.array());
+        Matrix expected = Matrix.rect(2, 3).withNumbers(List.of(1, 2, 3, 4, 5, 6));
+
+        assertEquals(expected, Matrix.load(file));
+        assertEquals(expected, Matrix.map(file).toDense());
+        assertEquals(6.0, Matrix.map(file).at(1, 2));
+    }
+
+    @Test
+    void testMap_readsLazilyWithoutCopy() throws IOException {
+        Matrix a = randomRect(60, 40);
+        Matrix b = randomRect(40, 30);
+        Matrix c = randomRect(60, 40);
+        Path file = dir.resolve("mapped.bin");
+        a.save(file);
+
+        MappedMatrix mapped = Matrix.map(file);
+
+        assertFalse(mapped.isWritable());
+        assertEquals(a.at(13, 17), mapped.at(13, 17));
+        assertEquals(a, mapped.toDense());
+        assertTrue(a.dot(b).deepEquals(mapped.dot(b)));
+        assertEquals(a.add(c), mapped.add(c));
+        assertEquals(a.subtract(c), mapped.subtract(c));
+        assertEquals(c.add(a), c.add((NumericMatrix) mapped));
+        assertEquals(c.subtract(a), c.subtract((NumericMatrix) mapped));
+        assertThrows(IllegalStateException.class, () -> mapped.set(0, 0, 1));
+    }
+
+    @Test
+    void testMap_denseTimesMapped() throws IOException {
+        Matrix a = randomRect(25, 60);
+        Matrix b = randomRect(60, 35);
+        Path file = dir.resolve("right.bin");
+        b.save(file);
+
+        assertTrue(a.dot(b).deepEquals(a.dot((NumericMatrix) Matrix.map(file))));
+    }
+
+    @Test
+    void testMap_readWriteWritesThrough() throws IOException {
+        Path file = dir.resolve("rw.bin");
+        Matrix.square(3).zero().save(file);
+
+        MappedMatrix mapped = MappedMatrix.open(file, FileChannel.MapMode.READ_WRITE);
+        assertEquals(0.0, mapped.set(1, 2, 42));
+
+        assertEquals(42.0, Matrix.load(file).at(1, 2));
+        assertThrows(IllegalArgumentException.class, () -> mapped.set(3, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> MappedMatrix.open(file, FileChannel.MapMode.PRIVATE));
+    }
+}
@@ -0,0 +1,118 @@
+package mouse.univ;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixFormatterTest {
+
+    private final Random random = new Random(11);
+
+    private Matrix randomRect(int n, int m) {
+        return Matrix.rect(n, m, MatrixLimits.LARGE)
+                .generate((i, j) -> Math.round((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(8))) / 100.0);
+    }
+
+    private static String referenceFormat(Matrix matrix) {
+        int n = matrix.getNumRows();
+        int m = matrix.getNumColumns();
+        int[] colWidths = new int[m];
+        for (int j = 0; j < m; j++) {
+            for (int i = 0; i < n; i++) {
+                colWidths[j] = Math.max(colWidths[j], Double.toString(matrix.at(i, j)).length());
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            sb.append("[");
+            for (int j = 0; j < m; j++) {
+                String cell = Double.toString(matrix.at(i, j));
+                sb.append(" ".repeat(colWidths[j] - cell.length())).append(cell);
+                if (j < m - 1) {
+                    sb.append(" ");
+                }
+            }
+            sb.append("]");
+            if (i < n - 1) {
+                sb.append("\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void testToString_keepsFormat() {
+        Matrix matrix = Matrix.rect(2, 3).withNumbers(List.of(1, -2.5, 300, 4, 5, -0.125));
+
+        assertEquals("[1.0 -2.5  300.0]\n[4.0  5.0 -0.125]", matrix.toString());
+    }
+
+    @Test
+    void testToString_matchesReferenceFormat() {
+        for (int[] size : new int[][]{{1, 1}, {1, 7}, {9, 1}, {37, 23}, {100, 100}}) {
+            Matrix matrix = randomRect(size[0], size[1]);
+            assertEquals(referenceFormat(matrix), matrix.toString());
+        }
+        Matrix special = Matrix.rect(1, 5).withNumbers(new double[]{Double.NaN, -0.0, 1e-7, Double.NEGATIVE_INFINITY, 1e21});
+        assertEquals(referenceFormat(special), special.toString());
+    }
+
+    @Test
+    void testWriteTo_matchesToString() throws IOException {
+        Matrix matrix = randomRect(300, 250);
+        StringBuilder sb = new StringBuilder();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        matrix.writeTo(sb);
+        matrix.writeTo(Channels.newChannel(bytes));
+
+        assertEquals(matrix.toString(), sb.toString());
+        assertEquals(matrix.toString(), bytes.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testWithPrecision_matchesStringFormat() {
+        Matrix matrix = randomRect(20, 15);
+        MatrixFormatter formatter = MatrixFormatter.defaults().withPrecision(2);
+
+        String[] rows = formatter.format(matrix).split("\n");
+        for (int i = 0; i < 20; i++) {
+            String[] cells = rows[i].substring(1, rows[i].length() - 1).trim().split(" +");
+            for (int j = 0; j < 15; j++) {
+                assertEquals(String.format("%.2f", matrix.at(i, j)), cells[j]);
+            }
+        }
+        Matrix rounding = Matrix.rect(1, 4).withNumbers(new double[]{0.15, -0.0001, 2.5, -0.0});
+        assertEquals("[0.2 -0.0 2.5 -0.0]", MatrixFormatter.defaults().withPrecision(1).format(rounding));
+        assertEquals("[0 -0 3 -0]", MatrixFormatter.defaults().withPrecision(0).format(rounding));
+        assertThrows(IllegalArgumentException.class, () -> MatrixFormatter.defaults().withPrecision(-1));
+    }
+
+    @Test
+    void testWithTruncation_elidesRowsAndColumns() {
+        Matrix matrix = Matrix.rect(3, 4).withNumbers(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12));
+
+        assertEquals("[1.0 2.0 ...]\n[5.0 6.0 ...]\n...",
+                MatrixFormatter.defaults().withTruncation(2, 2).format(matrix));
+        assertEquals(matrix.toString(),
+                MatrixFormatter.defaults().withTruncation(3, 4).format(matrix));
+        assertThrows(IllegalArgumentException.class, () -> MatrixFormatter.defaults().withTruncation(0, 2));
+    }
+
+    @Test
+    void testWriteTo_handlesMatricesAboveCacheLimit() throws IOException {
+        Matrix matrix = Matrix.rect(1100, 1000, MatrixLimits.LARGE).generate((i, j) -> i - j * 0.5);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        MatrixFormatter.defaults().writeTo(matrix, Channels.newChannel(bytes));
+
+        assertEquals(referenceFormat(matrix), bytes.toString(StandardCharsets.US_ASCII));
+    }
+}
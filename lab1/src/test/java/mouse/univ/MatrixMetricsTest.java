@@ -0,0 +1,155 @@
+package mouse.univ;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixMetricsTest {
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setUp() {
+        MatrixMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MatrixMetrics.disable();
+        MatrixMetrics.reset();
+    }
+
+    @Test
+    void testDisabled_recordsNothing() {
+        Matrix a = Matrix.square(3).unit();
+
+        a.dot(a);
+        a.add(a);
+
+        assertFalse(MatrixMetrics.isEnabled());
+        MatrixMetrics.snapshot().values().forEach(stats -> assertEquals(0, stats.count()));
+    }
+
+    @Test
+    void testEnabled_countsOperations() {
+        MatrixMetrics.enable();
+        Matrix a = Matrix.rect(4, 5).withNumbers(new double[20]);
+        Matrix b = Matrix.rect(5, 3).withNumbers(List.of(
+                1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15
+        ));
+
+        a.dot(b);
+        a.dot(b, Matrix.rect(4, 3).zero());
+        a.add(a);
+        a.subtract(a, a);
+        Matrix.square(4).fill(0.5).pow(5);
+
+        MatrixMetrics.OperationStats dot = MatrixMetrics.snapshot(MatrixMetrics.Operation.DOT);
+        assertEquals(2, dot.count());
+        assertEquals(2 * 2L * 4 * 5 * 3, dot.flops());
+        assertEquals(4L * 3 * Double.BYTES, dot.bytesAllocated());
+        assertTrue(dot.totalNanos() > 0);
+        assertTrue(dot.maxNanos() <= dot.totalNanos());
+        assertEquals(2, java.util.Arrays.stream(dot.latencyHistogram()).sum());
+
+        MatrixMetrics.OperationStats construct = MatrixMetrics.snapshot(MatrixMetrics.Operation.CONSTRUCT);
+        assertEquals(2, construct.count());
+        assertEquals(35L * Double.BYTES, construct.bytesAllocated());
+
+        assertEquals(1, MatrixMetrics.snapshot(MatrixMetrics.Operation.ADD).count());
+        assertEquals(1, MatrixMetrics.snapshot(MatrixMetrics.Operation.SUBTRACT).count());
+        assertEquals(0, MatrixMetrics.snapshot(MatrixMetrics.Operation.SUBTRACT).bytesAllocated());
+        MatrixMetrics.OperationStats pow = MatrixMetrics.snapshot(MatrixMetrics.Operation.POW);
+        assertEquals(1, pow.count());
+        assertEquals(3 * 2L * 4 * 4 * 4, pow.flops());
+        assertEquals(3L * 4 * 4 * Double.BYTES, pow.bytesAllocated());
+
+        MatrixMetrics.reset();
+        assertEquals(0, MatrixMetrics.snapshot(MatrixMetrics.Operation.DOT).count());
+    }
+
+    @Test
+    void testPow_fastPathsRecordNoProducts() {
+        Matrix identity = Matrix.square(6).unit();
+        Matrix diagonal = Matrix.square(6).generate((i, j) -> i == j ? 2.0 : 0.0);
+        MatrixMetrics.enable();
+
+        identity.pow(1000);
+        diagonal.pow(10);
+        identity.pow(0);
+
+        MatrixMetrics.OperationStats pow = MatrixMetrics.snapshot(MatrixMetrics.Operation.POW);
+        assertEquals(3, pow.count());
+        assertEquals(0, pow.flops());
+        assertEquals(3 * 6L * 6 * Double.BYTES, pow.bytesAllocated());
+        assertEquals(0, MatrixMetrics.snapshot(MatrixMetrics.Operation.DOT).count());
+    }
+
+    @Test
+    void testGemv_reportsAllocatedVectors() {
+        Matrix a = Matrix.rect(3, 5).fill(1.0);
+        MatrixMetrics.enable();
+
+        a.multiply(new double[5]);
+        a.leftMultiply(new double[3]);
+        a.multiplyInto(new double[5], new double[3]);
+
+        MatrixMetrics.OperationStats gemv = MatrixMetrics.snapshot(MatrixMetrics.Operation.GEMV);
+        assertEquals(3, gemv.count());
+        assertEquals(3 * 2L * 3 * 5, gemv.flops());
+        assertEquals((3L + 5) * Double.BYTES, gemv.bytesAllocated());
+    }
+
+    @Test
+    void testPercentiles_useHistogramBuckets() {
+        long[] histogram = new long[MatrixMetrics.HISTOGRAM_BUCKETS];
+        histogram[4] = 90;
+        histogram[10] = 10;
+        MatrixMetrics.OperationStats stats = new MatrixMetrics.OperationStats(
+                MatrixMetrics.Operation.DOT, 100, 5000, 1000, 0, 0, histogram);
+
+        assertEquals(50.0, stats.meanNanos());
+        assertEquals(15, stats.percentileNanos(50));
+        assertEquals(15, stats.percentileNanos(90));
+        assertEquals(1023, stats.percentileNanos(99));
+        assertThrows(IllegalArgumentException.class, () -> stats.percentileNanos(101));
+    }
+
+    @Test
+    void testEnabled_emitsFlightRecorderEvents() throws IOException {
+        Path file = dir.resolve("matrix.jfr");
+        Matrix a = Matrix.rect(6, 7).zero();
+        Matrix b = Matrix.rect(7, 2).zero();
+        try (Recording recording = new Recording()) {
+            recording.enable("mouse.univ.MatrixOperation").withThreshold(java.time.Duration.ZERO);
+            recording.start();
+            MatrixMetrics.enable();
+            a.dot(b);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("mouse.univ.MatrixOperation"))
+                .toList();
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("DOT", event.getString("operation"));
+        assertEquals(6, event.getInt("rows"));
+        assertEquals(2, event.getInt("columns"));
+        assertEquals(7, event.getInt("inner"));
+        assertEquals(2L * 6 * 7 * 2, event.getLong("flops"));
+        assertEquals(6L * 2 * Double.BYTES, event.getLong("bytesAllocated"));
+    }
+}
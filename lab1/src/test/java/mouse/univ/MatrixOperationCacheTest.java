@@ -0,0 +1,156 @@
+package mouse.univ;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixOperationCacheTest {
+
+    private final Random random = new Random(5);
+
+    private Matrix randomRect(int n, int m) {
+        return Matrix.rect(n, m).generate((i, j) -> random.nextDouble());
+    }
+
+    @Test
+    void testDot_servesRepeatedProductsFromCache() {
+        MatrixOperationCache cache = MatrixOperationCache.withMaxBytes(1 << 20);
+        Matrix w = randomRect(30, 40);
+        Matrix x = randomRect(40, 10);
+
+        Matrix first = cache.dot(w, x);
+        Matrix second = cache.dot(w, x);
+        Matrix third = cache.dot(w, x.copy());
+
+        assertEquals(w.dot(x), first);
+        assertEquals(first, second);
+        assertEquals(first, third);
+        assertNotSame(first, second);
+        MatrixOperationCache.Stats stats = cache.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.entries());
+        assertEquals(2.0 / 3, stats.hitRate(), 1e-12);
+    }
+
+    @Test
+    void testOperandOrder_isKeyedSeparately() {
+        MatrixOperationCache cache = MatrixOperationCache.withMaxBytes(1 << 20);
+        Matrix a = randomRect(8, 8);
+        Matrix b = randomRect(8, 8);
+
+        assertEquals(a.dot(b), cache.dot(a, b));
+        assertEquals(b.dot(a), cache.dot(b, a));
+
+        assertEquals(0, cache.stats().hits());
+        assertEquals(2, cache.stats().entries());
+    }
+
+    @Test
+    void testMutation_neverServesStaleResults() {
+        MatrixOperationCache cache = MatrixOperationCache.withMaxBytes(1 << 20);
+        Matrix a = randomRect(10, 10);
+        Matrix b = randomRect(10, 10);
+        cache.dot(a, b);
+
+        a.set(0, 0, a.at(0, 0) + 1);
+        assertEquals(a.dot(b), cache.dot(a, b));
+
+        double original = b.at(4, 4);
+        assertEquals(a.dot(b), cache.dot(a, b));
+        assertEquals(1, cache.stats().hits());
+        b.set(4, 4, original + 1);
+        assertEquals(a.dot(b), cache.dot(a, b));
+        b.set(4, 4, original);
+        assertEquals(a.dot(b), cache.dot(a, b));
+        assertEquals(2, cache.stats().hits());
+
+        b.addInPlace(a);
+        assertEquals(a.dot(b), cache.dot(a, b));
+        assertEquals(2, cache.stats().hits());
+    }
+
+    @Test
+    void testSharedStorage_neverServesStaleResults() {
+        MatrixOperationCache cache = MatrixOperationCache.withMaxBytes(1 << 20);
+        double[] data = {1, 2, 3, 4};
+        Matrix v = Matrix.square(2).wrap(data);
+        Matrix w = randomRect(2, 2);
+        assertEquals(v.dot(w), cache.dot(v, w));
+
+        data[0] = 5;
+        Matrix expected = Matrix.square(2).withNumbers(java.util.List.of(5, 2, 3, 4)).dot(w);
+
+        assertEquals(expected, cache.dot(v, w));
+        assertEquals(0, cache.stats().hits());
+    }
+
+    @Test
+    void testEqualFreshOperands_hitAfterCollection() {
+        MatrixOperationCache cache = MatrixOperationCache.withMaxBytes(1 << 20);
+        Matrix w = randomRect(20, 20);
+        double[] input = random.doubles(20 * 3).toArray();
+
+        for (int k = 0; k < 5; k++) {
+            Matrix x = Matrix.rect(20, 3).withNumbers(input.clone());
+            assertEquals(w.dot(x), cache.dot(w, x));
+            System.gc();
+        }
+
+        assertEquals(4, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void testResults_areIsolatedFromCallers() {
+        MatrixOperationCache cache = MatrixOperationCache.withMaxBytes(1 << 20);
+        Matrix a = randomRect(5, 5);
+        Matrix b = randomRect(5, 5);
+        Matrix expected = a.dot(b);
+
+        cache.dot(a, b).set(0, 0, 100);
+        Matrix cached = cache.dot(a, b);
+        cached.set(1, 1, 100);
+
+        assertEquals(expected, cache.dot(a, b));
+        assertEquals(2, cache.stats().hits());
+    }
+
+    @Test
+    void testEviction_respectsByteBudget() {
+        Matrix a = randomRect(10, 10);
+        long entryBytes = 3 * 10 * 10 * Double.BYTES + MatrixOperationCache.ENTRY_OVERHEAD_BYTES;
+        MatrixOperationCache cache = MatrixOperationCache.withMaxBytes(3 * entryBytes);
+        Matrix[] inputs = new Matrix[4];
+        for (int k = 0; k < inputs.length; k++) {
+            inputs[k] = randomRect(10, 10);
+            cache.dot(a, inputs[k]);
+        }
+
+        MatrixOperationCache.Stats stats = cache.stats();
+        assertEquals(3, stats.entries());
+        assertEquals(1, stats.evictions());
+        assertEquals(3 * entryBytes, stats.bytes());
+
+        cache.dot(a, inputs[3]);
+        cache.dot(a, inputs[0]);
+        assertEquals(1, cache.stats().hits());
+        assertEquals(2, cache.stats().evictions());
+
+        cache.clear();
+        assertEquals(new MatrixOperationCache.Stats(0, 0, 0, 0, 0), cache.stats());
+        assertEquals(0.0, cache.stats().hitRate());
+        assertThrows(IllegalArgumentException.class, () -> MatrixOperationCache.withMaxBytes(0));
+    }
+
+    @Test
+    void testOversizedResults_areNotStored() {
+        MatrixOperationCache cache = MatrixOperationCache.withMaxBytes(64);
+        Matrix a = randomRect(10, 10);
+
+        assertEquals(a.dot(a), cache.dot(a, a));
+        assertEquals(0, cache.stats().entries());
+    }
+}
@@ -7,7 +7,10 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
 
 import static mouse.univ.NumberUtils.generateRandomNumbers;
@@ -115,6 +118,44 @@ class MatrixTest {
         assertThrows(IllegalArgumentException.class, () -> Matrix.square(10000));
     }
 
+    @Test
+    void testLimits_largeProfileAllowsBigMatrices() {
+        Matrix matrix = Matrix.rect(101, 2000, MatrixLimits.LARGE).zero();
+        assertEquals(101, matrix.getNumRows());
+        assertEquals(2000, matrix.getNumColumns());
+        assertAllZero(matrix);
+
+        assertIdentity(Matrix.square(300, MatrixLimits.LARGE).unit());
+    }
+
+    @Test
+    void testLimits_largeProfileRejectsOverflowingSizes() {
+        assertThrows(IllegalArgumentException.class, () -> Matrix.rect(100_000, 100_000, MatrixLimits.LARGE));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.square(Integer.MAX_VALUE, MatrixLimits.LARGE));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.rect(65_536, 65_536, MatrixLimits.LARGE));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.rect(0, 10, MatrixLimits.LARGE));
+    }
+
+    @Test
+    void testLimits_customProfile() {
+        MatrixLimits limits = MatrixLimits.of(200, 5);
+
+        assertEquals(200, Matrix.rect(200, 5, limits).zero().getNumRows());
+        assertThrows(IllegalArgumentException.class, () -> Matrix.rect(201, 5, limits));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.rect(5, 6, limits));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.square(6, limits));
+        assertThrows(IllegalArgumentException.class, () -> MatrixLimits.of(0, 5));
+    }
+
+    @Test
+    void testDot_largeProfileMatrices() {
+        Matrix a = randomRect(150, 120, MatrixLimits.LARGE);
+        Matrix b = randomRect(120, 130, MatrixLimits.LARGE);
+
+        assertTrue(a.dot(b).deepEquals(manualDot(a, b)));
+        assertTrue(a.dot(b, ExecutionPolicy.parallel()).deepEquals(manualDot(a, b)));
+    }
+
     private void testAllowedNumber(double d) {
         assertEquals(d, Matrix.square(1).withNumbers(List.of(d)).at(0,0));
     }
@@ -167,6 +208,79 @@ class MatrixTest {
         assertIdentity(u);
     }
 
+    @Test
+    void testBuilder_primitiveEntryPoints() {
+        Matrix expected = Matrix.rect(2, 3).withNumbers(List.of(
+                1, 2, 3,
+                4, 5, 6
+        ));
+        double[] numbers = {1, 2, 3, 4, 5, 6};
+
+        Matrix fromArray = Matrix.rect(2, 3).withNumbers(numbers);
+        numbers[0] = 100;
+
+        assertEquals(expected, fromArray);
+        assertEquals(expected, Matrix.rect(2, 3).withNumbers(DoubleStream.of(1, 2, 3, 4, 5, 6)));
+        assertEquals(expected, Matrix.rect(2, 3).generate((i, j) -> i * 3 + j + 1));
+        assertEquals(Matrix.rect(2, 3).withNumbers(List.of(7, 7, 7, 7, 7, 7)), Matrix.rect(2, 3).fill(7));
+        assertEquals(Matrix.square(4).unit(), Matrix.square(4).generate((i, j) -> i == j ? 1 : 0));
+    }
+
+    @Test
+    void testBuilder_primitiveEntryPointsThrowOnSizeMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> Matrix.rect(2, 3).withNumbers(new double[5]));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.rect(2, 3).withNumbers(new double[7]));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.rect(2, 3).withNumbers(DoubleStream.of(1, 2)));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.rect(2, 3).withNumbers(DoubleStream.generate(() -> 1)));
+    }
+
+    @Test
+    void testBuilder_listWithUnexpectedObjectThrows() {
+        assertThrows(IllegalArgumentException.class, () -> Matrix.rect(1, 2).withNumbers(List.of(1, "2")));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.rect(1, 2).withNumbers(Arrays.asList(1.0, null)));
+    }
+
+    @Test
+    void testWrap_sharesCallerArray() {
+        double[] data = {
+                1, 2, 3,
+                4, 5, 6
+        };
+        Matrix matrix = Matrix.rect(2, 3).wrap(data);
+
+        assertEquals(6.0, matrix.at(1, 2));
+        matrix.set(0, 1, 20);
+        assertEquals(20.0, data[1]);
+        data[3] = 40;
+        assertEquals(40.0, matrix.at(1, 0));
+        assertEquals(Matrix.rect(2, 3).withNumbers(List.of(1, 20, 3, 40, 5, 6)), matrix);
+    }
+
+    @Test
+    void testWrap_withOffsetAndStride() {
+        double[] data = {
+                -1, -1, -1, -1,
+                -1, 1, 2, -1,
+                -1, 3, 4, -1
+        };
+        Matrix matrix = Matrix.square(2).wrap(data, 5, 4);
+        Matrix expected = Matrix.square(2).withNumbers(List.of(1, 2, 3, 4));
+
+        assertEquals(expected, matrix);
+        assertEquals(List.of(2.0, 4.0), matrix.column(1));
+        assertEquals(expected.add(expected), matrix.add(matrix));
+        assertTrue(expected.dot(expected).deepEquals(matrix.dot(matrix)));
+    }
+
+    @Test
+    void testWrap_throwsOnInvalidLayout() {
+        assertThrows(IllegalArgumentException.class, () -> Matrix.square(2).wrap(null));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.square(2).wrap(new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.square(2).wrap(new double[4], -1, 2));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.square(2).wrap(new double[4], 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.square(2).wrap(new double[5], 1, 3));
+    }
+
     @ParameterizedTest
     @ValueSource(doubles = {
             -10_000, -100, -10, -1, 0, 1, 10, 100, 10_000
@@ -201,6 +315,81 @@ class MatrixTest {
         assertThrows(IllegalArgumentException.class, () -> matrix.at(3, 3));
     }
 
+    @Test
+    void testHashCode_followsContent() {
+        Matrix a = randomRect(20, 30);
+        Matrix b = a.copy();
+        Matrix view = Matrix.rect(20, 30).wrap(Arrays.copyOf(b.array(), 700), 0, 30);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.hashCode(), view.hashCode());
+        assertNotEquals(a.hashCode(), Matrix.rect(20, 30).zero().hashCode());
+        assertNotEquals(Matrix.rect(2, 3).zero().hashCode(), Matrix.rect(3, 2).zero().hashCode());
+    }
+
+    @Test
+    void testHashCode_invalidatedOnMutation() {
+        Matrix a = randomRect(10, 10);
+        Matrix b = a.copy();
+        int before = a.hashCode();
+
+        b.set(3, 4, b.at(3, 4) + 1);
+        assertNotEquals(before, b.hashCode());
+        assertNotEquals(a, b);
+        b.set(3, 4, a.at(3, 4));
+        assertEquals(before, b.hashCode());
+        assertEquals(a, b);
+
+        b.addInPlace(a);
+        assertEquals(a.add(a).hashCode(), b.hashCode());
+        b.subtractInPlace(a);
+        assertEquals(before, b.hashCode());
+        a.dot(Matrix.square(10).unit(), b);
+        assertEquals(before, b.hashCode());
+        Matrix.square(10).zero().add(a, b);
+        assertEquals(before, b.hashCode());
+    }
+
+    @Test
+    void testEquals_comparesContentOfSharedStorage() {
+        double[] data = {1, 2, 3, 4};
+        Matrix view = Matrix.square(2).wrap(data);
+        Matrix expected = Matrix.square(2).withNumbers(List.of(5, 6, 7, 8));
+        view.hashCode();
+        expected.hashCode();
+
+        System.arraycopy(new double[]{5, 6, 7, 8}, 0, data, 0, 4);
+
+        assertEquals(expected, view);
+        assertEquals(view, expected);
+    }
+
+    @Test
+    void testHashCode_usableAsMapKey() {
+        java.util.Map<Matrix, Integer> map = new java.util.HashMap<>();
+        for (int k = 0; k < 200; k++) {
+            map.put(Matrix.rect(4, 4).fill(k), k);
+        }
+
+        assertEquals(200, map.size());
+        assertEquals(123, map.get(Matrix.rect(4, 4).fill(123)));
+        assertTrue(map.keySet().stream().mapToInt(Matrix::hashCode).distinct().count() > 190);
+    }
+
+    @Test
+    void testToleranceHashCode_groupsNearlyEqualMatrices() {
+        Matrix a = Matrix.rect(2, 2).withNumbers(List.of(1.0, 2.0, 3.0, 4.0));
+        Matrix b = Matrix.rect(2, 2).withNumbers(List.of(1.0 + 1e-9, 2.0 - 1e-9, 3.0, 4.0 + 2e-9));
+
+        assertTrue(a.deepEquals(b, 1e-6));
+        assertNotEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.toleranceHashCode(1e-6), b.toleranceHashCode(1e-6));
+        assertNotEquals(a.toleranceHashCode(1e-6), a.add(Matrix.rect(2, 2).fill(1e-3)).toleranceHashCode(1e-6));
+        assertThrows(IllegalArgumentException.class, () -> a.toleranceHashCode(0));
+        assertThrows(IllegalArgumentException.class, () -> a.toleranceHashCode(Double.NaN));
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 3, 10, 100})
     void row_shouldReturnCorrectRowElements(int n) {
@@ -241,6 +430,52 @@ class MatrixTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 10, 100})
+    void rowAndColumnViews_shouldMatchElements(int n) {
+        Matrix matrix = randomSquare(n);
+
+        for (int k = 0; k < n; k++) {
+            DoubleVectorView row = matrix.rowView(k);
+            DoubleVectorView column = matrix.columnView(k);
+            assertEquals(n, row.size());
+            assertEquals(n, column.size());
+            double[] rowCopy = row.copyInto(new double[n]);
+            double[] columnCopy = column.stream().toArray();
+
+            for (int t = 0; t < n; t++) {
+                assertEquals(matrix.at(k, t), row.getDouble(t), 0.0);
+                assertEquals(matrix.at(t, k), column.getDouble(t), 0.0);
+                assertEquals(matrix.at(k, t), rowCopy[t], 0.0);
+                assertEquals(matrix.at(t, k), columnCopy[t], 0.0);
+            }
+            assertEquals(matrix.row(k), row.toList());
+            assertEquals(matrix.column(k), column.toList());
+        }
+    }
+
+    @Test
+    void views_areLiveAndBoundsChecked() {
+        double[] data = {
+                1, 2, 3, -1,
+                4, 5, 6, -1
+        };
+        Matrix matrix = Matrix.rect(2, 3).wrap(data, 0, 4);
+        DoubleVectorView row = matrix.rowView(1);
+        DoubleVectorView column = matrix.columnView(2);
+
+        matrix.set(1, 2, 60);
+
+        assertArrayEquals(new double[]{4, 5, 60}, row.toArray());
+        assertArrayEquals(new double[]{3, 60}, column.toArray());
+        assertArrayEquals(new double[]{0, 3, 60}, column.copyInto(new double[3], 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> row.getDouble(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.getDouble(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.copyInto(new double[2], 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.rowView(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.columnView(3));
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 3, 10, 100})
     void asList_shouldReturnAllRowsCorrectly(int n) {
@@ -265,8 +500,12 @@ class MatrixTest {
     }
 
     private static Matrix randomRect(int n, int m) {
+        return randomRect(n, m, MatrixLimits.SPEC);
+    }
+
+    private static Matrix randomRect(int n, int m, MatrixLimits limits) {
         List<Double> nums = NumberUtils.generateRandomNumbers(n * m);
-        return Matrix.rect(n, m).withNumbers(nums);
+        return Matrix.rect(n, m, limits).withNumbers(nums);
     }
 
     private static Matrix randomSquare(int n) {
@@ -306,7 +545,7 @@ class MatrixTest {
         int n = a.getNumRows();
         int mid = a.getNumColumns();
         int m = b.getNumColumns();
-        Matrix res = Matrix.rect(n, m).zero();
+        Matrix res = Matrix.rect(n, m, MatrixLimits.LARGE).zero();
         for (int i = 0; i < n; i++) {
             for (int j = 0; j < m; j++) {
                 double sum = 0.0;
@@ -456,6 +695,320 @@ class MatrixTest {
         assertMatrixEqualsByAt(actual, expected);
     }
 
+    private static Stream<Arguments> dotKernelShapes() {
+        return Stream.of(
+                Arguments.of(1, 1, 1),
+                Arguments.of(31, 33, 32),      // below the blocking volume
+                Arguments.of(97, 100, 1),      // matrix-vector shape
+                Arguments.of(1, 100, 100),     // row-vector shape
+                Arguments.of(99, 100, 98),     // row count not divisible by the tile
+                Arguments.of(100, 3, 100),     // outer product like
+                Arguments.of(100, 100, 100)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dotKernelShapes")
+    void testDot_kernelMatchesManualDot(int n, int mid, int m) {
+        Matrix a = randomRect(n, mid);
+        Matrix b = randomRect(mid, m);
+
+        Matrix actual = a.dot(b);
+        Matrix expected = manualDot(a, b);
+
+        assertTrue(actual.deepEquals(expected), "Kernel result differs for " + n + "x" + mid + "x" + m);
+    }
+
+    private static Stream<ExecutionPolicy> parallelPolicies() {
+        return Stream.of(
+                ExecutionPolicy.parallel(),
+                ExecutionPolicy.parallel().withThreshold(0),
+                ExecutionPolicy.parallel(new ForkJoinPool(3)).withThreshold(0)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("parallelPolicies")
+    void testAdd_parallelMatchesSequential(ExecutionPolicy policy) {
+        Matrix a = randomRect(100, 37);
+        Matrix b = randomRect(100, 37);
+
+        assertEquals(a.add(b), a.add(b, policy));
+        assertEquals(a.subtract(b), a.subtract(b, policy));
+    }
+
+    @ParameterizedTest
+    @MethodSource("parallelPolicies")
+    void testDot_parallelMatchesSequential(ExecutionPolicy policy) {
+        Matrix square = randomSquare(100);
+        Matrix wide = randomRect(2, 100);
+        Matrix tall = randomRect(100, 1);
+
+        assertTrue(square.dot(square, policy).deepEquals(square.dot(square)));
+        assertTrue(wide.dot(square, policy).deepEquals(wide.dot(square)));
+        assertTrue(square.dot(tall, policy).deepEquals(square.dot(tall)));
+    }
+
+    @Test
+    void testExecutionPolicy_rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ExecutionPolicy.parallel(null));
+        assertThrows(IllegalArgumentException.class, () -> ExecutionPolicy.parallel().withThreshold(-1));
+        assertThrows(IllegalArgumentException.class, () -> ExecutionPolicy.sequential().withStrassenCrossover(1));
+        assertFalse(ExecutionPolicy.sequential().withThreshold(0).isParallel());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {16, 17, 33, 64, 100})
+    void testDot_strassenMatchesClassicKernel(int n) {
+        Matrix a = randomSquare(n);
+        Matrix b = randomSquare(n);
+        ExecutionPolicy strassen = ExecutionPolicy.sequential().withStrassenCrossover(16);
+
+        Matrix expected = a.dot(b);
+
+        assertTrue(a.dot(b, strassen).deepEquals(expected), "Strassen result differs for n=" + n);
+        assertTrue(a.dot(b, strassen.withThreshold(0)).deepEquals(expected));
+        assertTrue(expected.deepEquals(manualDot(a, b)));
+    }
+
+    @Test
+    void testDot_strassenOnLargeOddMatrices() {
+        Matrix a = randomRect(301, 301, MatrixLimits.LARGE);
+        Matrix b = randomRect(301, 301, MatrixLimits.LARGE);
+        Matrix dest = Matrix.square(301, MatrixLimits.LARGE).zero();
+
+        a.dot(b, dest, ExecutionPolicy.parallel().withStrassenCrossover(64));
+
+        assertTrue(dest.deepEquals(a.dot(b)));
+    }
+
+    @Test
+    void testDot_parallelStrassenForksOnPolicyPool() {
+        Matrix a = randomRect(130, 130, MatrixLimits.LARGE);
+        Matrix b = randomRect(130, 130, MatrixLimits.LARGE);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ExecutionPolicy policy = ExecutionPolicy.parallel(pool).withThreshold(0).withStrassenCrossover(16);
+
+            assertTrue(a.dot(b, policy).deepEquals(a.dot(b)));
+            assertTrue(pool.getStealCount() > 0 || pool.getPoolSize() > 1, "sub-products were not forked");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testDot_strassenIgnoresRectangularProducts() {
+        Matrix a = randomRect(40, 30);
+        Matrix b = randomRect(30, 40);
+
+        assertEquals(a.dot(b), a.dot(b, ExecutionPolicy.sequential().withStrassenCrossover(16)));
+    }
+
+    @Test
+    void testAddInPlace_mutatesReceiver() {
+        Matrix a = randomRect(10, 7);
+        Matrix b = randomRect(10, 7);
+        Matrix sum = a.add(b);
+        Matrix difference = a.subtract(b);
+        Matrix copy = a.add(Matrix.rect(10, 7).zero());
+
+        assertSame(a, a.addInPlace(b));
+        assertEquals(sum, a);
+        assertSame(copy, copy.subtractInPlace(b));
+        assertEquals(difference, copy);
+    }
+
+    @Test
+    void testDestination_writesIntoGivenMatrix() {
+        Matrix a = randomRect(20, 30);
+        Matrix b = randomRect(20, 30);
+        Matrix c = randomRect(30, 10);
+        Matrix sumDest = randomRect(20, 30);
+        Matrix dotDest = randomRect(20, 10);
+
+        assertSame(sumDest, a.add(b, sumDest));
+        assertEquals(a.add(b), sumDest);
+        assertSame(sumDest, a.subtract(b, sumDest));
+        assertEquals(a.subtract(b), sumDest);
+        assertSame(dotDest, a.dot(c, dotDest));
+        assertEquals(a.dot(c), dotDest);
+        assertSame(dotDest, a.dot(c, dotDest, ExecutionPolicy.parallel().withThreshold(0)));
+        assertEquals(a.dot(c), dotDest);
+    }
+
+    @Test
+    void testDestination_throwsOnWrongShape() {
+        Matrix a = randomRect(3, 4);
+        Matrix b = randomRect(4, 5);
+
+        assertThrows(IllegalArgumentException.class, () -> a.add(a, randomRect(4, 3)));
+        assertThrows(IllegalArgumentException.class, () -> a.subtract(a, randomRect(3, 5)));
+        assertThrows(IllegalArgumentException.class, () -> a.dot(b, randomRect(3, 4)));
+        assertThrows(IllegalArgumentException.class, () -> a.addInPlace(b));
+    }
+
+    @Test
+    void testDestination_handlesAliasedOperands() {
+        Matrix a = randomSquare(40);
+        Matrix expected = a.dot(a);
+
+        assertSame(a, a.dot(a, a));
+        assertEquals(expected, a);
+    }
+
+    @Test
+    void testDestination_handlesPartiallyOverlappingViews() {
+        double[] data = new double[5 * 4];
+        for (int k = 0; k < data.length; k++) {
+            data[k] = k;
+        }
+        Matrix top = Matrix.rect(4, 4).wrap(data, 0, 4);
+        Matrix bottom = Matrix.rect(4, 4).wrap(data, 4, 4);
+        Matrix expectedSum = top.add(bottom);
+        Matrix expectedDot = top.dot(bottom);
+
+        top.add(bottom, bottom);
+        assertEquals(expectedSum, bottom);
+
+        for (int k = 0; k < data.length; k++) {
+            data[k] = k;
+        }
+        top.dot(bottom, bottom);
+        assertEquals(expectedDot, bottom);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 7, 8, 13, 64})
+    void testPow_matchesRepeatedDot(long k) {
+        Matrix a = Matrix.square(20).generate((i, j) -> (i * 7 + j * 3) % 5 / 40.0);
+        Matrix expected = a;
+        for (long e = 1; e < k; e++) {
+            expected = expected.dot(a);
+        }
+
+        assertTrue(expected.deepEquals(a.pow(k)));
+        assertTrue(expected.deepEquals(a.pow(k, ExecutionPolicy.parallel().withThreshold(0))));
+    }
+
+    @Test
+    void testPow_fastPaths() {
+        Matrix a = randomSquare(6);
+        Matrix unit = Matrix.square(6).unit();
+        Matrix diagonal = Matrix.square(3).withNumbers(List.of(
+                2, 0, 0,
+                0, -0.5, 0,
+                0, 0, 1.5
+        ));
+
+        assertEquals(unit, a.pow(0));
+        assertEquals(unit, unit.pow(Long.MAX_VALUE));
+        assertEquals(a, a.pow(1));
+        assertNotSame(a, a.pow(1));
+        assertEquals(Matrix.square(3).withNumbers(List.of(
+                1024, 0, 0,
+                0, 1 / 1024.0, 0,
+                0, 0, Math.pow(1.5, 10)
+        )), diagonal.pow(10));
+        assertEquals(diagonal.dot(diagonal).dot(diagonal), diagonal.pow(3));
+    }
+
+    @Test
+    void testPow_highPowerOfStochasticMatrix() {
+        Matrix transition = Matrix.square(2).withNumbers(List.of(
+                0.9, 0.1,
+                0.5, 0.5
+        ));
+
+        Matrix stationary = transition.pow(1L << 20);
+
+        assertTrue(Matrix.square(2).withNumbers(List.of(
+                5 / 6.0, 1 / 6.0,
+                5 / 6.0, 1 / 6.0
+        )).deepEquals(stationary));
+    }
+
+    @Test
+    void testPow_throwsOnInvalidInput() {
+        assertThrows(IllegalStateException.class, () -> Matrix.rect(2, 3).zero().pow(2));
+        assertThrows(IllegalArgumentException.class, () -> randomSquare(3).pow(-1));
+    }
+
+    private static double[] randomVector(int length) {
+        return NumberUtils.generateRandomNumbers(length).stream().mapToDouble(v -> v / 100_000.0).toArray();
+    }
+
+    private static double[] column(Matrix m) {
+        return m.columnView(0).toList().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    @ParameterizedTest
+    @MethodSource("gemvShapes")
+    void testMultiply_matchesColumnVectorDot(int n, int m) {
+        Matrix a = randomRect(n, m, MatrixLimits.LARGE);
+        double[] x = randomVector(m);
+        double[] expected = column(a.dot(Matrix.rect(m, 1, MatrixLimits.LARGE).withNumbers(x)));
+        ExecutionPolicy parallel = ExecutionPolicy.parallel(ForkJoinPool.commonPool()).withThreshold(0);
+
+        assertArrayEquals(expected, a.multiply(x), 1e-6);
+        assertArrayEquals(expected, a.multiply(x, parallel), 1e-6);
+        double[] y = new double[n];
+        Arrays.fill(y, Double.NaN);
+        assertSame(y, a.multiplyInto(x, y));
+        assertArrayEquals(expected, y, 1e-6);
+    }
+
+    @ParameterizedTest
+    @MethodSource("gemvShapes")
+    void testLeftMultiply_matchesRowVectorDot(int n, int m) {
+        Matrix a = randomRect(n, m, MatrixLimits.LARGE);
+        double[] x = randomVector(n);
+        Matrix row = Matrix.rect(1, n, MatrixLimits.LARGE).withNumbers(x);
+        double[] expected = column(a.transpose().dot(row.transpose()));
+        ExecutionPolicy parallel = ExecutionPolicy.parallel(ForkJoinPool.commonPool()).withThreshold(0);
+
+        assertArrayEquals(expected, a.leftMultiply(x), 1e-6);
+        assertArrayEquals(expected, a.leftMultiply(x, parallel), 1e-6);
+    }
+
+    static Stream<Arguments> gemvShapes() {
+        return Stream.of(
+                Arguments.of(1, 1),
+                Arguments.of(3, 7),
+                Arguments.of(9, 2),
+                Arguments.of(64, 64),
+                Arguments.of(257, 130)
+        );
+    }
+
+    @Test
+    void testMultiply_onView() {
+        double[] data = generateRandomNumbers(5 + 20 * 12).stream().mapToDouble(Double::doubleValue).toArray();
+        Matrix view = Matrix.rect(20, 9, MatrixLimits.LARGE).wrap(data, 5, 12);
+        Matrix copy = view.copy();
+        double[] x = randomVector(9);
+        double[] z = randomVector(20);
+
+        assertArrayEquals(copy.multiply(x), view.multiply(x), 1e-6);
+        assertArrayEquals(copy.leftMultiply(z), view.leftMultiply(z), 1e-6);
+    }
+
+    @Test
+    void testMultiply_throwsOnInvalidVectors() {
+        Matrix a = randomRect(3, 4);
+
+        assertThrows(IllegalArgumentException.class, () -> a.multiply(null));
+        assertThrows(IllegalArgumentException.class, () -> a.multiply(new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyInto(new double[4], new double[4]));
+        assertThrows(IllegalArgumentException.class, () -> a.leftMultiply(new double[4]));
+        double[] x = new double[3];
+        Matrix square = Matrix.square(3).zero();
+        assertThrows(IllegalArgumentException.class, () -> square.multiplyInto(x, x));
+        double[] data = new double[9];
+        Matrix wrapped = Matrix.square(3).wrap(data);
+        assertThrows(IllegalArgumentException.class, () -> wrapped.multiplyInto(x, data));
+    }
+
     @Test
     void testAdd_largeConstant3x3Matrices() {
         Matrix a = constantSquare(3, 100_000.0);
@@ -0,0 +1,119 @@
+package mouse.univ;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixTextReaderTest {
+
+    private static ReadableByteChannel channel(String text) {
+        return Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static MatrixFormatException assertMalformed(String text, int row, int column) {
+        MatrixFormatException e = assertThrows(MatrixFormatException.class, () -> Matrix.readText(channel(text)));
+        assertEquals(row, e.getRow(), e.getMessage());
+        assertEquals(column, e.getColumn(), e.getMessage());
+        return e;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "1,2,3\n4,5,6\n",
+            "1 2 3\n4 5 6",
+            "1;2;3\r\n4;5;6\r\n",
+            "\n  1, 2,\t3 \n\n4 ,5 ,6\n\n"
+    })
+    void testReadText_acceptsDelimiters(String text) throws IOException {
+        Matrix expected = Matrix.rect(2, 3).withNumbers(List.of(1, 2, 3, 4, 5, 6));
+
+        assertEquals(expected, Matrix.readText(channel(text)));
+        assertEquals(expected, Matrix.rect(2, 3).readText(channel(text)));
+    }
+
+    @Test
+    void testReadText_parsesNumbersExactly() throws IOException {
+        String[] tokens = {"0", "-0", "+7", "0.1", "-99999.99999", "1e5", "1.5E-3", ".25", "3.", "100000",
+                "0.30000000000000004", "12345.678901234567890123", "1e-320", "4.9e-324", "-2.5e+2", "0.000001"};
+        Matrix matrix = Matrix.readText(channel(String.join(",", tokens)));
+
+        assertEquals(1, matrix.getNumRows());
+        assertEquals(tokens.length, matrix.getNumColumns());
+        for (int j = 0; j < tokens.length; j++) {
+            assertEquals(Double.parseDouble(tokens[j]), matrix.at(0, j), tokens[j]);
+        }
+    }
+
+    @Test
+    void testReadText_matchesParseDoubleOnRandomInput() throws IOException {
+        Random random = new Random(17);
+        int n = 300;
+        int m = 200;
+        StringBuilder text = new StringBuilder();
+        double[] expected = new double[n * m];
+        for (int k = 0; k < n * m; k++) {
+            double value = (random.nextDouble() * 2 - 1) * Math.pow(10, random.nextInt(11) - 5);
+            String token = random.nextBoolean() ? Double.toString(value) : String.format("%.6f", value);
+            expected[k] = Double.parseDouble(token);
+            text.append(token).append(k % m == m - 1 ? "\n" : ",");
+        }
+
+        Matrix matrix = Matrix.readText(channel(text.toString()), MatrixLimits.LARGE);
+
+        assertEquals(Matrix.rect(n, m, MatrixLimits.LARGE).withNumbers(expected), matrix);
+    }
+
+    @Test
+    void testReadText_reportsMalformedInputPosition() {
+        assertMalformed("1,2\n3,x\n", 1, 1);
+        assertMalformed("1,2\n3,4e\n", 1, 1);
+        assertMalformed("1,2\n3,1.2.3\n", 1, 1);
+        assertMalformed("1,,2\n", 0, 1);
+        assertMalformed(",1\n", 0, 0);
+        assertMalformed("1,2,\n3,4\n", 0, 2);
+        assertMalformed("1,2\n3,4,5\n", 1, 2);
+        assertMalformed("1,2,3\n4,5\n", 1, 2);
+        assertMalformed("1,NaN\n", 0, 1);
+        assertMalformed("", 0, 0);
+    }
+
+    @Test
+    void testReadText_rejectsNonAsciiAndControlBytes() {
+        for (String text : new String[]{"1\u00e92\n3 4\n", "1\u00a02\n", "1 2\n3\u00004\n", "1\f2\n"}) {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            MatrixFormatException e = assertThrows(MatrixFormatException.class,
+                    () -> Matrix.readText(Channels.newChannel(new ByteArrayInputStream(bytes))), text);
+            assertEquals(text.startsWith("1 2") ? 1 : 0, e.getRow(), e.getMessage());
+            assertEquals(0, e.getColumn(), e.getMessage());
+        }
+    }
+
+    @Test
+    void testReadText_validatesValueRange() {
+        MatrixFormatException e = assertMalformed("1,2\n3,100000.5\n", 1, 1);
+        assertTrue(e.getMessage().contains("100000.5"));
+        assertMalformed("-1e6\n", 0, 0);
+        assertMalformed("1e400\n", 0, 0);
+    }
+
+    @Test
+    void testReadText_validatesDimensions() {
+        assertThrows(MatrixFormatException.class, () -> Matrix.rect(2, 2).readText(channel("1,2\n3,4\n5,6\n")));
+        assertThrows(MatrixFormatException.class, () -> Matrix.rect(3, 2).readText(channel("1,2\n3,4\n")));
+        assertThrows(MatrixFormatException.class, () -> Matrix.rect(2, 2).readText(channel("1,2,3\n4,5,6\n")));
+        assertThrows(MatrixFormatException.class,
+                () -> Matrix.readText(channel("1,2,3\n4,5,6\n7,8,9\n"), MatrixLimits.of(2, 3)));
+        assertThrows(MatrixFormatException.class,
+                () -> Matrix.readText(channel("1,2,3,4\n"), MatrixLimits.of(3, 3)));
+    }
+}
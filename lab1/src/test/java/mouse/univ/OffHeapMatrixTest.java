@@ -0,0 +1,136 @@
+package mouse.univ;
+
+import jdk.incubator.foreign.ResourceScope;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapMatrixTest {
+
+    private final Random random = new Random(13);
+
+    private Matrix randomRect(int n, int m) {
+        return Matrix.rect(n, m, MatrixLimits.LARGE).generate((i, j) -> random.nextDouble() * 2 - 1);
+    }
+
+    @Test
+    void testAllocate_startsZeroedAndSupportsAccess() {
+        try (OffHeapMatrix off = OffHeapMatrix.allocate(3, 4)) {
+            assertEquals(3, off.getNumRows());
+            assertEquals(4, off.getNumColumns());
+            assertEquals(3L * 4 * Double.BYTES, off.byteSize());
+            assertEquals(0.0, off.at(2, 3));
+            assertEquals(0.0, off.set(2, 3, 5.5));
+            assertEquals(5.5, off.set(2, 3, 1.0));
+            assertEquals(1.0, off.at(2, 3));
+            assertThrows(IllegalArgumentException.class, () -> off.at(3, 0));
+            assertThrows(IllegalArgumentException.class, () -> off.set(0, 4, 1.0));
+        }
+        assertThrows(IllegalArgumentException.class, () -> OffHeapMatrix.allocate(0, 3));
+    }
+
+    @Test
+    void testCopyOf_roundTripsThroughDense() {
+        Matrix dense = Matrix.rect(2, 3).withNumbers(List.of(1, 2, 3, 4, 5, 6));
+        try (OffHeapMatrix off = OffHeapMatrix.copyOf(dense)) {
+            assertEquals(dense, off.toDense());
+            assertArrayEquals(new double[]{4, 5, 6}, off.copyRowInto(1, new double[3]));
+            assertThrows(IndexOutOfBoundsException.class, () -> off.copyRowInto(2, new double[3]));
+        }
+    }
+
+    @Test
+    void testClose_releasesMemory() {
+        OffHeapMatrix off = OffHeapMatrix.allocate(2, 2);
+        assertTrue(off.isAlive());
+        off.close();
+        assertFalse(off.isAlive());
+        assertThrows(IllegalStateException.class, () -> off.at(0, 0));
+    }
+
+    @Test
+    void testExternalScope_ownsLifetime() {
+        OffHeapMatrix off;
+        try (ResourceScope scope = ResourceScope.newConfinedScope()) {
+            off = OffHeapMatrix.allocate(2, 2, scope);
+            off.set(1, 1, 3.0);
+            assertEquals(3.0, off.at(1, 1));
+            off.close();
+            assertTrue(off.isAlive());
+        }
+        assertFalse(off.isAlive());
+    }
+
+    @Test
+    void testExternalScope_holdsResults() {
+        Matrix a = randomRect(6, 6);
+        OffHeapMatrix sum;
+        OffHeapMatrix product;
+        OffHeapMatrix difference;
+        try (ResourceScope scope = ResourceScope.newSharedScope()) {
+            OffHeapMatrix off = OffHeapMatrix.allocate(6, 6, scope);
+            for (int i = 0; i < 6; i++) {
+                for (int j = 0; j < 6; j++) {
+                    off.set(i, j, a.at(i, j));
+                }
+            }
+            sum = off.add(a);
+            product = sum.dot(a);
+            difference = product.subtract(a);
+            assertTrue(a.add(a).dot(a).subtract(a).deepEquals(difference.toDense()));
+        }
+        assertFalse(sum.isAlive());
+        assertFalse(product.isAlive());
+        assertFalse(difference.isAlive());
+    }
+
+    @Test
+    void testScopeOverloads_placeResultInGivenScope() {
+        Matrix a = randomRect(4, 4);
+        try (OffHeapMatrix off = OffHeapMatrix.copyOf(a)) {
+            OffHeapMatrix product;
+            try (ResourceScope scope = ResourceScope.newConfinedScope()) {
+                product = off.dot(a, scope).add(a, scope).subtract(a, scope);
+                assertTrue(a.dot(a).deepEquals(product.toDense()));
+            }
+            assertFalse(product.isAlive());
+            assertTrue(off.isAlive());
+            assertThrows(IllegalArgumentException.class, () -> off.add(a, null));
+        }
+    }
+
+    @Test
+    void testAddSubtract_matchDense() {
+        Matrix a = randomRect(37, 53);
+        Matrix b = randomRect(37, 53);
+        try (OffHeapMatrix oa = OffHeapMatrix.copyOf(a);
+             OffHeapMatrix ob = OffHeapMatrix.copyOf(b);
+             OffHeapMatrix sum = oa.add(ob);
+             OffHeapMatrix diff = oa.subtract(b)) {
+            assertEquals(a.add(b), sum.toDense());
+            assertEquals(a.subtract(b), diff.toDense());
+            assertEquals(a.add(b), a.add((NumericMatrix) ob));
+            assertEquals(a.subtract(b), a.subtract((NumericMatrix) ob));
+            assertThrows(IllegalArgumentException.class, () -> oa.add(Matrix.square(37).zero()));
+        }
+    }
+
+    @Test
+    void testDot_matchesDense() {
+        Matrix a = randomRect(41, 67);
+        Matrix b = randomRect(67, 29);
+        Matrix expected = a.dot(b);
+        try (OffHeapMatrix oa = OffHeapMatrix.copyOf(a);
+             OffHeapMatrix ob = OffHeapMatrix.copyOf(b);
+             OffHeapMatrix product = oa.dot(ob);
+             OffHeapMatrix mixed = oa.dot(b)) {
+            assertTrue(expected.deepEquals(product.toDense()));
+            assertTrue(expected.deepEquals(mixed.toDense()));
+            assertTrue(expected.deepEquals(a.dot((NumericMatrix) ob)));
+            assertThrows(IllegalArgumentException.class, () -> oa.dot(a));
+        }
+    }
+}
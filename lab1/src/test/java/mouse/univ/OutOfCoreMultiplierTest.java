@@ -0,0 +1,115 @@
+package mouse.univ;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutOfCoreMultiplierTest {
+
+    @TempDir
+    Path dir;
+
+    private final Random random = new Random(11);
+
+    private Matrix random(int n, int m) {
+        return Matrix.rect(n, m, MatrixLimits.LARGE).generate((i, j) -> random.nextDouble() - 0.5);
+    }
+
+    private static long tiles(int count, int tileSize) {
+        return (long) count * tileSize * tileSize * Double.BYTES;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1, 1, 4", "20, 30, 25, 8", "64, 64, 64, 16", "50, 13, 41, 32"})
+    void testMultiply_matchesInMemoryDot(int n, int p, int q, int tileSize) throws IOException {
+        Matrix a = random(n, p);
+        Matrix b = random(p, q);
+        TiledMatrix ta = TiledMatrix.split(a, dir.resolve("a"), tileSize);
+        TiledMatrix tb = TiledMatrix.split(b, dir.resolve("b"), tileSize);
+
+        OutOfCoreMultiplier.Result result = OutOfCoreMultiplier.withMemoryBudget(tiles(OutOfCoreMultiplier.MIN_BUDGET_TILES, tileSize))
+                .multiply(ta, tb, dir.resolve("c"));
+
+        assertTrue(a.dot(b).deepEquals(result.product().toDense()));
+        OutOfCoreMultiplier.Stats stats = result.stats();
+        long pairs = (long) ta.getTileRows() * tb.getTileColumns() * ta.getTileColumns();
+        assertEquals(2 * pairs, stats.tilesRead());
+        assertEquals(0, stats.pairsSkipped());
+        assertEquals((long) ta.getTileRows() * tb.getTileColumns(), stats.tilesWritten());
+        assertEquals(8L * (n * q), stats.bytesWritten());
+        assertEquals(2, stats.pairsInFlight());
+        assertTrue(stats.overlap() >= 0.0 && stats.overlap() <= 1.0);
+        assertTrue(stats.wallNanos() >= stats.computeNanos());
+    }
+
+    @Test
+    void testMultiply_skipsZeroTiles() throws IOException {
+        Matrix a = Matrix.rect(40, 40, MatrixLimits.LARGE).generate((i, j) -> i < 20 ? random.nextDouble() : 0.0);
+        Matrix b = Matrix.rect(40, 40, MatrixLimits.LARGE).generate((i, j) -> j >= 20 ? random.nextDouble() : 0.0);
+        TiledMatrix ta = TiledMatrix.split(a, dir.resolve("a"), 10);
+        TiledMatrix tb = TiledMatrix.split(b, dir.resolve("b"), 10);
+
+        OutOfCoreMultiplier.Result result = OutOfCoreMultiplier.withMemoryBudget(tiles(16, 10))
+                .withPolicy(ExecutionPolicy.parallel(ForkJoinPool.commonPool()).withThreshold(0))
+                .multiply(ta, tb, dir.resolve("c"));
+
+        assertTrue(a.dot(b).deepEquals(result.product().toDense()));
+        assertEquals(2 * 2 * 4, result.stats().tilesRead() / 2);
+        assertEquals(4 * 4 * 4 - 16, result.stats().pairsSkipped());
+        assertEquals(4, result.stats().tilesWritten());
+        assertEquals(6, result.stats().pairsInFlight());
+        try (var files = Files.list(dir.resolve("c"))) {
+            assertEquals(4, files.count());
+        }
+    }
+
+    @Test
+    void testMultiply_reportsBrokenTile() throws IOException {
+        TiledMatrix ta = TiledMatrix.split(random(8, 8), dir.resolve("a"), 4);
+        TiledMatrix tb = TiledMatrix.split(random(8, 8), dir.resolve("b"), 4);
+        Files.write(ta.tilePath(1, 0), new byte[]{1, 2, 3});
+
+        OutOfCoreMultiplier multiplier = OutOfCoreMultiplier.withMemoryBudget(tiles(8, 4));
+
+        assertThrows(IOException.class, () -> multiplier.multiply(ta, tb, dir.resolve("c")));
+    }
+
+    @Test
+    void testMultiply_rejectsOperandDirectoryAsOutput() throws IOException {
+        Matrix a = random(12, 12);
+        TiledMatrix ta = TiledMatrix.split(a, dir.resolve("a"), 4);
+        TiledMatrix tb = TiledMatrix.split(random(12, 12), dir.resolve("b"), 4);
+        OutOfCoreMultiplier multiplier = OutOfCoreMultiplier.withMemoryBudget(tiles(8, 4));
+
+        assertThrows(IllegalArgumentException.class, () -> multiplier.multiply(ta, ta, ta.getDirectory()));
+        assertThrows(IllegalArgumentException.class, () -> multiplier.multiply(ta, tb, tb.getDirectory()));
+        assertThrows(IllegalArgumentException.class, () -> multiplier.multiply(ta, tb, dir.resolve("b/../a")));
+        assertEquals(a, ta.toDense());
+        assertTrue(a.dot(a).deepEquals(multiplier.multiply(ta, ta, dir.resolve("c")).product().toDense()));
+    }
+
+    @Test
+    void testInvalidArguments_throw() throws IOException {
+        TiledMatrix a = TiledMatrix.create(dir.resolve("a"), 8, 6, 4);
+        TiledMatrix b = TiledMatrix.create(dir.resolve("b"), 8, 6, 4);
+        TiledMatrix c = TiledMatrix.create(dir.resolve("c"), 6, 6, 3);
+        OutOfCoreMultiplier multiplier = OutOfCoreMultiplier.withMemoryBudget(tiles(7, 4));
+
+        assertThrows(IllegalArgumentException.class, () -> OutOfCoreMultiplier.withMemoryBudget(0));
+        assertThrows(IllegalArgumentException.class, () -> multiplier.withPolicy(null));
+        assertThrows(IllegalArgumentException.class, () -> multiplier.multiply(a, b, dir.resolve("d")));
+        assertThrows(IllegalArgumentException.class, () -> multiplier.multiply(a, c, dir.resolve("d")));
+        assertThrows(IllegalArgumentException.class,
+                () -> OutOfCoreMultiplier.withMemoryBudget(tiles(6, 4)).multiply(a, TiledMatrix.create(dir.resolve("e"), 6, 6, 4), dir.resolve("d")));
+        assertEquals(0, OutOfCoreMultiplier.withMemoryBudget(tiles(6, 4)).pairsInFlight(4));
+    }
+}
@@ -0,0 +1,143 @@
+package mouse.univ;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseMatrixTest {
+
+    private final Random random = new Random(7);
+
+    private Matrix randomSparseDense(int n, int m, double density) {
+        return Matrix.rect(n, m, MatrixLimits.LARGE)
+                .generate((i, j) -> random.nextDouble() < density ? random.nextDouble() - 0.5 : 0.0);
+    }
+
+    @Test
+    void testBuilder_createsCsrMatrix() {
+        SparseMatrix s = SparseMatrix.builder(3, 4)
+                .set(2, 3, 5)
+                .set(0, 1, 1)
+                .set(0, 0, 2)
+                .set(0, 1, 3)
+                .set(1, 2, 7)
+                .set(1, 2, 0)
+                .build();
+
+        assertEquals(3, s.getNumRows());
+        assertEquals(4, s.getNumColumns());
+        assertEquals(3, s.nonZeros());
+        assertEquals(2.0, s.at(0, 0));
+        assertEquals(3.0, s.at(0, 1));
+        assertEquals(0.0, s.at(1, 2));
+        assertEquals(5.0, s.at(2, 3));
+        assertEquals(Matrix.rect(3, 4).withNumbers(List.of(
+                2, 3, 0, 0,
+                0, 0, 0, 0,
+                0, 0, 0, 5
+        )), s.toDense());
+    }
+
+    @Test
+    void testBuilder_throwsOnInvalidAccess() {
+        assertThrows(IllegalArgumentException.class, () -> SparseMatrix.builder(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> SparseMatrix.builder(3, 3).set(3, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> SparseMatrix.builder(3, 3).set(0, -1, 1));
+        SparseMatrix s = SparseMatrix.builder(3, 3).build();
+        assertThrows(IllegalArgumentException.class, () -> s.at(0, 3));
+        assertEquals(0, s.nonZeros());
+    }
+
+    @Test
+    void testConversion_roundTrips() {
+        Matrix dense = randomSparseDense(40, 70, 0.05);
+        SparseMatrix sparse = SparseMatrix.fromDense(dense);
+
+        assertEquals(dense, sparse.toDense());
+        assertEquals(sparse, SparseMatrix.fromDense(sparse.toDense()));
+        assertEquals(sparse.hashCode(), SparseMatrix.fromDense(sparse.toDense()).hashCode());
+    }
+
+    @Test
+    void testTranspose_usesCscLayout() {
+        Matrix dense = randomSparseDense(30, 20, 0.1);
+        SparseMatrix t = SparseMatrix.fromDense(dense).transpose();
+
+        assertEquals(20, t.getNumRows());
+        assertEquals(30, t.getNumColumns());
+        for (int i = 0; i < 30; i++) {
+            for (int j = 0; j < 20; j++) {
+                assertEquals(dense.at(i, j), t.at(j, i));
+            }
+        }
+        assertSame(t, t.transpose().transpose());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 0.01, 0.05, 0.3})
+    void testAddSubtract_matchDense(double density) {
+        Matrix a = randomSparseDense(50, 60, density);
+        Matrix b = randomSparseDense(50, 60, density);
+        SparseMatrix sa = SparseMatrix.fromDense(a);
+        SparseMatrix sb = SparseMatrix.fromDense(b);
+
+        assertEquals(a.add(b), sa.add(sb).toDense());
+        assertEquals(a.subtract(b), sa.subtract(sb).toDense());
+        assertEquals(a.add(b), sa.add(b));
+        assertEquals(a.subtract(b), sa.subtract(b));
+        assertEquals(a.add(b), a.add((NumericMatrix) sb));
+        assertEquals(a.subtract(b), a.subtract((NumericMatrix) sb));
+        assertEquals(0, sa.subtract(sa).nonZeros());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 0.01, 0.05, 0.3})
+    void testDot_matchesDense(double density) {
+        Matrix a = randomSparseDense(45, 60, density);
+        Matrix b = randomSparseDense(60, 35, density);
+        SparseMatrix sa = SparseMatrix.fromDense(a);
+        SparseMatrix sb = SparseMatrix.fromDense(b);
+        Matrix expected = a.dot(b);
+
+        assertTrue(expected.deepEquals(sa.dot(b)), "sparse x dense");
+        assertTrue(expected.deepEquals(a.dot((NumericMatrix) sb)), "dense x sparse");
+        assertTrue(expected.deepEquals(sa.dot(sb).toDense()), "sparse x sparse");
+        assertTrue(expected.deepEquals(sa.dot((NumericMatrix) sb).toDense()));
+    }
+
+    @Test
+    void testDot_largeSparseMatrices() {
+        int n = 20_000;
+        SparseMatrix.Builder builder = SparseMatrix.builder(n, n);
+        for (int i = 0; i < n; i++) {
+            builder.set(i, i, 2);
+            builder.set(i, (i + 1) % n, -1);
+        }
+        SparseMatrix s = builder.build();
+
+        SparseMatrix square = s.dot(s);
+
+        assertEquals(3 * n, square.nonZeros());
+        assertEquals(4.0, square.at(5, 5));
+        assertEquals(-4.0, square.at(5, 6));
+        assertEquals(1.0, square.at(5, 7));
+    }
+
+    @Test
+    void testOperations_throwOnMismatchedSizes() {
+        SparseMatrix a = SparseMatrix.builder(3, 4).build();
+        SparseMatrix b = SparseMatrix.builder(3, 5).build();
+
+        assertThrows(IllegalArgumentException.class, () -> a.add(b));
+        assertThrows(IllegalArgumentException.class, () -> a.subtract(b));
+        assertThrows(IllegalArgumentException.class, () -> a.dot(b));
+        assertThrows(IllegalArgumentException.class, () -> a.dot(Matrix.square(3).zero()));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.rect(3, 4).zero().dot((NumericMatrix) a));
+        assertThrows(IllegalArgumentException.class, () -> Matrix.square(3).zero().subtract((NumericMatrix) a));
+    }
+}
@@ -0,0 +1,91 @@
+package mouse.univ;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TiledMatrixTest {
+
+    @TempDir
+    Path dir;
+
+    private final Random random = new Random(5);
+
+    private Matrix random(int n, int m) {
+        return Matrix.rect(n, m, MatrixLimits.LARGE).generate((i, j) -> random.nextDouble() - 0.5);
+    }
+
+    @Test
+    void testSplit_roundTripsWithEdgeTiles() throws IOException {
+        Matrix source = random(23, 17);
+        TiledMatrix tiled = TiledMatrix.split(source, dir.resolve("a"), 8);
+
+        assertEquals(23, tiled.getNumRows());
+        assertEquals(17, tiled.getNumColumns());
+        assertEquals(3, tiled.getTileRows());
+        assertEquals(3, tiled.getTileColumns());
+        assertEquals(7, tiled.readTile(2, 0).getNumRows());
+        assertEquals(1, tiled.readTile(0, 2).getNumColumns());
+        assertEquals(source, tiled.toDense());
+    }
+
+    @Test
+    void testSplit_fromMappedMatrix() throws IOException {
+        Matrix source = random(20, 30);
+        Path file = dir.resolve("source.bin");
+        source.save(file);
+
+        TiledMatrix tiled = TiledMatrix.split(Matrix.map(file), dir.resolve("tiles"), 16);
+
+        assertEquals(source, tiled.toDense());
+    }
+
+    @Test
+    void testZeroTiles_haveNoFiles() throws IOException {
+        Matrix source = Matrix.rect(10, 10, MatrixLimits.LARGE).generate((i, j) -> i < 5 && j < 5 ? 1.0 : 0.0);
+        TiledMatrix tiled = TiledMatrix.split(source, dir, 5);
+
+        assertTrue(tiled.hasTile(0, 0));
+        assertFalse(tiled.hasTile(1, 1));
+        assertEquals(Matrix.square(5).zero(), tiled.readTile(1, 1));
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+
+        tiled.writeTile(0, 0, Matrix.square(5).zero());
+        assertFalse(tiled.hasTile(0, 0));
+        assertEquals(Matrix.square(10).zero(), tiled.toDense());
+    }
+
+    @Test
+    void testSave_writesStandardMatrixFile() throws IOException {
+        Matrix source = random(19, 12);
+        TiledMatrix tiled = TiledMatrix.split(source, dir.resolve("tiles"), 5);
+        tiled.writeTile(1, 1, Matrix.square(5).zero());
+        Matrix expected = tiled.toDense();
+        Path file = dir.resolve("whole.bin");
+
+        tiled.save(file);
+
+        assertEquals(expected, Matrix.load(file, MatrixLimits.LARGE));
+        MappedMatrix mapped = MappedMatrix.open(file, FileChannel.MapMode.READ_ONLY);
+        assertEquals(expected.at(18, 11), mapped.at(18, 11));
+    }
+
+    @Test
+    void testInvalidArguments_throw() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> TiledMatrix.create(dir, 0, 3, 2));
+        assertThrows(IllegalArgumentException.class, () -> TiledMatrix.create(dir, 3, 3, 0));
+        TiledMatrix tiled = TiledMatrix.create(dir, 5, 5, 3);
+        assertThrows(IllegalArgumentException.class, () -> tiled.readTile(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> tiled.writeTile(1, 1, Matrix.square(3).zero()));
+        assertDoesNotThrow(() -> tiled.writeTile(1, 1, Matrix.square(2).zero()));
+    }
+}
@@ -0,0 +1,104 @@
+package mouse.univ;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransposedMatrixTest {
+
+    private final Random random = new Random(23);
+
+    private Matrix random(int n, int m) {
+        return Matrix.rect(n, m, MatrixLimits.LARGE).generate((i, j) -> random.nextDouble() - 0.5);
+    }
+
+    private static Matrix materialize(Matrix m) {
+        return Matrix.rect(m.getNumColumns(), m.getNumRows(), MatrixLimits.LARGE).generate((i, j) -> m.at(j, i));
+    }
+
+    @Test
+    void testTranspose_isViewOfOriginal() {
+        Matrix a = Matrix.rect(2, 3).withNumbers(List.of(
+                1, 2, 3,
+                4, 5, 6
+        ));
+        TransposedMatrix t = a.transpose();
+
+        assertEquals(3, t.getNumRows());
+        assertEquals(2, t.getNumColumns());
+        assertEquals(4.0, t.at(0, 1));
+        assertSame(a, t.transpose());
+        assertEquals(Matrix.rect(3, 2).withNumbers(List.of(
+                1, 4,
+                2, 5,
+                3, 6
+        )), t.toDense());
+
+        a.set(1, 2, 9);
+        assertEquals(9.0, t.at(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> t.at(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> t.at(0, -1));
+    }
+
+    @Test
+    void testToDense_handlesOddSizesAndViews() {
+        Matrix a = random(71, 45);
+        assertEquals(materialize(a), a.transpose().toDense());
+
+        double[] data = new double[3 + 40 * 50];
+        for (int k = 0; k < data.length; k++) {
+            data[k] = random.nextDouble();
+        }
+        Matrix view = Matrix.rect(33, 37, MatrixLimits.LARGE).wrap(data, 3, 50);
+        assertEquals(materialize(view), view.transpose().toDense());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1, 1", "3, 5, 2", "17, 9, 33", "64, 130, 70", "131, 257, 129"})
+    void testDot_matchesMaterializedTranspose(int n, int p, int q) {
+        Matrix a = random(n, p);
+        Matrix bt = random(q, p);
+        Matrix at = random(p, n);
+        Matrix b = random(p, q);
+
+        assertTrue(a.dot(materialize(bt)).deepEquals(a.dot(bt.transpose())), "A x B^T");
+        assertTrue(materialize(at).dot(b).deepEquals(at.transpose().dot(b)), "A^T x B");
+        assertTrue(materialize(at).dot(materialize(bt)).deepEquals(at.transpose().dot(bt.transpose())), "A^T x B^T");
+        assertTrue(a.dot(materialize(bt)).deepEquals(a.dot((NumericMatrix) bt.transpose())));
+        assertTrue(materialize(at).dot(b).deepEquals(at.transpose().dot((NumericMatrix) b)));
+    }
+
+    @Test
+    void testDot_parallelPolicyAndViews() {
+        ExecutionPolicy policy = ExecutionPolicy.parallel(ForkJoinPool.commonPool()).withThreshold(0);
+        double[] data = new double[7 + 90 * 100];
+        for (int k = 0; k < data.length; k++) {
+            data[k] = random.nextDouble() - 0.5;
+        }
+        Matrix view = Matrix.rect(90, 80, MatrixLimits.LARGE).wrap(data, 7, 100);
+        Matrix other = random(70, 80);
+        Matrix tall = random(90, 60);
+
+        assertTrue(view.dot(materialize(other)).deepEquals(view.dot(other.transpose(), policy)));
+        assertTrue(materialize(view).dot(tall).deepEquals(view.transpose().dot(tall, policy)));
+        assertTrue(materialize(view).dot(materialize(tall.transpose().toDense()))
+                .deepEquals(view.transpose().dot(tall.transpose().toDense().transpose(), policy)));
+    }
+
+    @Test
+    void testDot_throwsOnMismatchedSizes() {
+        Matrix a = random(3, 4);
+        Matrix b = random(5, 3);
+
+        assertThrows(IllegalArgumentException.class, () -> a.dot(b.transpose()));
+        assertThrows(IllegalArgumentException.class, () -> a.transpose().dot(b));
+        assertThrows(IllegalArgumentException.class, () -> a.transpose().dot(a.transpose()));
+        assertDoesNotThrow(() -> a.transpose().dot(b.transpose()));
+    }
+}
@@ -0,0 +1,114 @@
+package mouse.univ;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorKernelsTest {
+
+    private final Random random = new Random(42);
+
+    private double[] randomArray(int length) {
+        return random.doubles(length, -100_000, 100_000).toArray();
+    }
+
+    @Test
+    void testVectorSupport_enabledWhenModuleIsPresent() {
+        assertTrue(VectorSupport.ENABLED, "Test JVM is started with jdk.incubator.vector");
+        assertTrue(VectorKernels.laneCount() > 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 4, 7, 8, 17, 100, 257})
+    void testAddSubtract_matchScalar(int length) {
+        double[] a = randomArray(length + 2);
+        double[] b = randomArray(length + 1);
+        double[] expected = new double[length];
+        double[] actual = new double[length];
+
+        ElementwiseKernels.addScalar(a, 2, b, 1, expected, 0, length);
+        VectorKernels.add(a, 2, b, 1, actual, 0, length);
+        assertArrayEquals(expected, actual);
+
+        ElementwiseKernels.subtractScalar(a, 2, b, 1, expected, 0, length);
+        VectorKernels.subtract(a, 2, b, 1, actual, 0, length);
+        assertArrayEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 4, 7, 8, 17, 100, 257})
+    void testAxpy_matchesScalar(int length) {
+        double[] x = randomArray(length);
+        double[] expected = randomArray(4 * length);
+        double[] actual = expected.clone();
+
+        DotKernels.axpyScalar(1.5, x, 0, expected, length, length);
+        VectorKernels.axpy(1.5, x, 0, actual, length, length);
+        assertArrayEquals(expected, actual);
+
+        DotKernels.axpy4Scalar(1, -2, 3, -4, x, 0, expected, 0, length, 2 * length, 3 * length, length);
+        VectorKernels.axpy4(1, -2, 3, -4, x, 0, actual, 0, length, 2 * length, 3 * length, length);
+        assertArrayEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 4, 7, 8, 17, 100, 257})
+    void testDotProduct_withinThreshold(int length) {
+        double[] x = random.doubles(length).toArray();
+        double[] y = random.doubles(length).toArray();
+
+        double expected = DotKernels.dotProductScalar(x, 0, y, 0, length);
+        double actual = VectorKernels.dotProduct(x, 0, y, 0, length);
+        assertEquals(expected, actual, NumberUtils.DEFAULT_THRESHOLD);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"5, 6, 7", "300, 200, 1", "40, 40, 40"})
+    void testMultiplyTile_accumulatesIntoC(int n, int p, int q) {
+        double[] a = random.doubles(n * p).toArray();
+        double[] b = random.doubles(p * q).toArray();
+        double[] c = random.doubles(n * q).toArray();
+        double[] expected = c.clone();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < q; j++) {
+                expected[i * q + j] += DotKernels.dotProductScalar(a, i * p, column(b, p, q, j), 0, p);
+            }
+        }
+
+        DotKernels.multiplyTile(a, 0, p, b, 0, q, c, 0, q, 0, n, 0, q, p);
+
+        for (int k = 0; k < c.length; k++) {
+            assertEquals(expected[k], c[k], NumberUtils.DEFAULT_THRESHOLD);
+        }
+    }
+
+    private static double[] column(double[] b, int p, int q, int j) {
+        double[] column = new double[p];
+        for (int k = 0; k < p; k++) {
+            column[k] = b[k * q + j];
+        }
+        return column;
+    }
+
+    @Test
+    void testAllClose_matchesScalar() {
+        double[] a = randomArray(101);
+        double[] b = a.clone();
+
+        assertTrue(VectorKernels.allClose(a, 0, b, 0, a.length, NumberUtils.DEFAULT_THRESHOLD));
+        for (int k : new int[]{0, 5, 64, 100}) {
+            double[] c = a.clone();
+            c[k] += 1e-3;
+            assertFalse(VectorKernels.allClose(a, 0, c, 0, a.length, NumberUtils.DEFAULT_THRESHOLD));
+            assertEquals(ElementwiseKernels.allCloseScalar(a, 0, c, 0, a.length, 1e-2),
+                    VectorKernels.allClose(a, 0, c, 0, a.length, 1e-2));
+            c[k] = Double.NaN;
+            assertFalse(VectorKernels.allClose(a, 0, c, 0, a.length, NumberUtils.DEFAULT_THRESHOLD));
+        }
+    }
+}